@@ -1,6 +1,10 @@
 package io.swagger.codegen.v3.generators;
 
+import io.swagger.codegen.v3.generators.util.CopyOnWriteMap;
+import io.swagger.codegen.v3.generators.util.CopyOnWriteSet;
+
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -8,7 +12,29 @@ import java.util.Set;
 
 public class CodegenHelper {
 
+    // built once and shared by every generator instance, which copies a table only when changing it
+    private static final Set<String> DEFAULT_INCLUDES = Collections.unmodifiableSet(createDefaultIncludes());
+    private static final Map<String, String> TYPE_MAPPINGS = Collections.unmodifiableMap(createTypeMappings());
+    private static final Map<String, String> IMPORT_MAPPINGS = Collections.unmodifiableMap(createImportMappings());
+    private static final Map<String, String> SPECIAL_CHARACTER_MAPPINGS = Collections.unmodifiableMap(createSpecialCharacterMappings());
+
     static Set<String> getDefaultIncludes() {
+        return new CopyOnWriteSet<>(DEFAULT_INCLUDES);
+    }
+
+    static Map<String, String> getTypeMappings() {
+        return new CopyOnWriteMap<>(TYPE_MAPPINGS);
+    }
+
+    static Map<String, String> getImportMappings() {
+        return new CopyOnWriteMap<>(IMPORT_MAPPINGS);
+    }
+
+    static Map<String, String> getSpecialCharacterMappings() {
+        return new CopyOnWriteMap<>(SPECIAL_CHARACTER_MAPPINGS);
+    }
+
+    private static Set<String> createDefaultIncludes() {
         return new HashSet<>(
                 Arrays.asList("double",
                         "int",
@@ -27,7 +53,7 @@ public class CodegenHelper {
         );
     }
 
-    static Map<String, String> getTypeMappings() {
+    private static Map<String, String> createTypeMappings() {
         final Map<String, String> typeMapping = new HashMap<>();
         typeMapping.put("array", "List");
         typeMapping.put("map", "Map");
@@ -52,7 +78,7 @@ public class CodegenHelper {
         return typeMapping;
     }
 
-    static Map<String, String> getImportMappings() {
+    private static Map<String, String> createImportMappings() {
         final Map<String, String> importMapping = new HashMap<>();
         importMapping.put("BigDecimal", "java.math.BigDecimal");
         importMapping.put("UUID", "java.util.UUID");
@@ -72,7 +98,8 @@ public class CodegenHelper {
         return importMapping;
     }
 
-    static void initalizeSpecialCharacterMapping(Map<String, String> specialCharReplacements) {
+    private static Map<String, String> createSpecialCharacterMappings() {
+        final Map<String, String> specialCharReplacements = new HashMap<>();
         specialCharReplacements.put("$", "Dollar");
         specialCharReplacements.put("^", "Caret");
         specialCharReplacements.put("|", "Pipe");
@@ -107,6 +134,7 @@ public class CodegenHelper {
         specialCharReplacements.put("<=", "Less_Than_Or_Equal_To");
         specialCharReplacements.put(">=", "Greater_Than_Or_Equal_To");
         specialCharReplacements.put("!=", "Not_Equal");
+        return specialCharReplacements;
     }
 }
 
@@ -11,6 +11,7 @@ import io.swagger.codegen.v3.CodegenContent;
 import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenModelFactory;
 import io.swagger.codegen.v3.CodegenModelType;
+import io.swagger.codegen.v3.CodegenObject;
 import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
@@ -19,6 +20,7 @@ import io.swagger.codegen.v3.CodegenSecurity;
 import io.swagger.codegen.v3.ISchemaHandler;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.examples.ExampleGenerator;
+import io.swagger.codegen.v3.generators.util.GenerationProfiler;
 import io.swagger.codegen.v3.generators.handlebars.BaseItemsHelper;
 import io.swagger.codegen.v3.generators.handlebars.BracesHelper;
 import io.swagger.codegen.v3.generators.handlebars.HasHelper;
@@ -27,7 +29,12 @@ import io.swagger.codegen.v3.generators.handlebars.IsHelper;
 import io.swagger.codegen.v3.generators.handlebars.IsNotHelper;
 import io.swagger.codegen.v3.generators.handlebars.NotEmptyHelper;
 import io.swagger.codegen.v3.generators.handlebars.StringUtilHelper;
+import io.swagger.codegen.v3.generators.util.CopyOnWriteMap;
+import io.swagger.codegen.v3.generators.util.CopyOnWriteSet;
 import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.OpenAPIVisitor;
+import io.swagger.codegen.v3.generators.util.OpenAPIWalker;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.codegen.v3.templates.HandlebarTemplateEngine;
 import io.swagger.codegen.v3.templates.MustacheTemplateEngine;
 import io.swagger.codegen.v3.templates.TemplateEngine;
@@ -70,7 +77,6 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -94,6 +100,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -107,15 +115,38 @@ import static io.swagger.codegen.v3.CodegenConstants.IS_ENUM_EXT_NAME;
 import static io.swagger.codegen.v3.generators.CodegenHelper.getDefaultIncludes;
 import static io.swagger.codegen.v3.generators.CodegenHelper.getImportMappings;
 import static io.swagger.codegen.v3.generators.CodegenHelper.getTypeMappings;
-import static io.swagger.codegen.v3.generators.CodegenHelper.initalizeSpecialCharacterMapping;
+import static io.swagger.codegen.v3.generators.CodegenHelper.getSpecialCharacterMappings;
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
 public abstract class DefaultCodegenConfig implements CodegenConfig {
     protected static final Logger LOGGER = LoggerFactory.getLogger(DefaultCodegenConfig.class);
 
+    // helpers keep no state between calls, so one instance of each is shared by every template engine and
+    // by concurrent renderings
+    private static final IsHelper IS_HELPER = new IsHelper();
+    private static final HasHelper HAS_HELPER = new HasHelper();
+    private static final IsNotHelper IS_NOT_HELPER = new IsNotHelper();
+    private static final HasNotHelper HAS_NOT_HELPER = new HasNotHelper();
+    private static final BracesHelper BRACES_HELPER = new BracesHelper();
+    private static final BaseItemsHelper BASE_ITEMS_HELPER = new BaseItemsHelper();
+    private static final NotEmptyHelper NOT_EMPTY_HELPER = new NotEmptyHelper();
+    private static final StringUtilHelper STRING_UTIL_HELPER = new StringUtilHelper();
+
+    // remove \t, \n, \r, replace \ with \\ and " with \"
+    private static final TextEscaper TEXT_ESCAPER = new TextEscaper(
+            new String[]{"\t", "\n", "\r", "\\", "\""},
+            new String[]{" ", " ", " ", "\\\\", "\\\""});
+
+    // language tables and arguments are the same for every instance of a generator, build them once
+    private static final ConcurrentMap<List<String>, Set<String>> LOWER_CASE_RESERVED_WORDS = new ConcurrentHashMap<>();
+    static final ConcurrentMap<String, Optional<List<CodegenArgument>>> LANGUAGE_ARGUMENTS = new ConcurrentHashMap<>();
+
+    private static final Pattern TRAILING_VAR_CHARS_PATTERN = Pattern.compile("[a-zA-Z0-9]+\\z");
+
     public static final String DEFAULT_CONTENT_TYPE = "application/json";
     public static final String REQUEST_BODY_NAME = "body";
     public static final String DEFAULT_TEMPLATE_DIR = "handlebars";
+    public static final String PROFILE_GENERATION = "profileGeneration";
 
     protected OpenAPI openAPI;
     protected OpenAPI unflattenedOpenAPI;
@@ -167,7 +198,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     // How to encode special characters like $
     // They are translated to words like "Dollar" and prefixed with '
     // Then translated back during JSON encoding and decoding
-    protected Map<String, String> specialCharReplacements = new HashMap<String, String>();
+    protected Map<String, String> specialCharReplacements;
     // When a model is an alias for a simple type
     protected Map<String, String> typeAliases = null;
 
@@ -175,6 +206,15 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     protected boolean useOas2 = false;
     protected boolean copyFistAllOfProperties = false;
     protected boolean ignoreImportMapping;
+    protected GenerationProfiler profiler;
+    private boolean unsafeCharactersWarned;
+    private boolean quotationMarkWarned;
+    // enum vars by data type and values, shared by every model, property and parameter declaring the same enum
+    private final Map<EnumVarsKey, List<Map<String, String>>> enumVarsCache = new HashMap<>();
+    // one instance of every string held by the models, properties, parameters and responses of this run
+    private final Map<String, String> canonicalStrings = new HashMap<>();
+    // one read-only instance of every distinct vendor extensions table of this run
+    private final Map<Map<String, Object>, Map<String, Object>> canonicalVendorExtensions = new HashMap<>();
 
     public List<CliOption> cliOptions() {
         return cliOptions;
@@ -253,10 +293,15 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             this.setUseOas2(Boolean.valueOf(additionalProperties.get(CodegenConstants.USE_OAS2).toString()));
         }
 
+        if (convertPropertyToBooleanAndWriteBack(PROFILE_GENERATION)) {
+            profiler = new GenerationProfiler();
+        }
+
         setTemplateEngine();
     }
 
     public Map<String, Object> postProcessAllModels(Map<String, Object> processedModels) {
+        enterPhase("postProcessAllModels");
         // Index all CodegenModels by model name.
         Map<String, CodegenModel> allModels = new HashMap<>();
         for (Map.Entry<String, Object> entry : processedModels.entrySet()) {
@@ -269,6 +314,10 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             }
         }
         postProcessAllCodegenModels(allModels);
+        // models are kept until the supporting files are generated, share what post processing left equal
+        for (CodegenModel codegenModel : allModels.values()) {
+            canonicalize(codegenModel);
+        }
         return processedModels;
     }
 
@@ -340,23 +389,8 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             // for enum model
             boolean isEnum = getBooleanValue(cm, IS_ENUM_EXT_NAME);
             if (Boolean.TRUE.equals(isEnum) && cm.allowableValues != null) {
-                Map<String, Object> allowableValues = cm.allowableValues;
-                List<Object> values = (List<Object>) allowableValues.get("values");
-                List<Map<String, String>> enumVars = new ArrayList<Map<String, String>>();
-                String commonPrefix = findCommonPrefixOfVars(values);
-                int truncateIdx = commonPrefix.length();
-                for (Object value : values) {
-                    Map<String, String> enumVar = new HashMap<String, String>();
-                    String enumName = findEnumName(truncateIdx, value);
-                    enumVar.put("name", toEnumVarName(enumName, cm.dataType));
-                    if (value == null) {
-                        enumVar.put("value", toEnumValue(null, cm.dataType));
-                    } else {
-                        enumVar.put("value", toEnumValue(value.toString(), cm.dataType));
-                    }
-                    enumVars.add(enumVar);
-                }
-                cm.allowableValues.put("enumVars", enumVars);
+                List<Object> values = (List<Object>) cm.allowableValues.get("values");
+                cm.allowableValues.put("enumVars", toEnumVars(values, cm.dataType));
             }
             updateCodegenModelEnumVars(cm);
         }
@@ -409,7 +443,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                 String prefix = StringUtils.getCommonPrefix(listStr);
                 // exclude trailing characters that should be part of a valid variable
                 // e.g. ["status-on", "status-off"] => "status-" (not "status-o")
-                return prefix.replaceAll("[a-zA-Z0-9]+\\z", "");
+                return TRAILING_VAR_CHARS_PATTERN.matcher(prefix).replaceAll("");
             } catch (ArrayStoreException e) {
                 // do nothing, just return default value
             }
@@ -467,15 +501,40 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     // override with any special post-processing
     @SuppressWarnings("static-method")
     public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels) {
+        enterPhase("postProcessOperationsWithModels");
         return objs;
     }
 
     // override with any special post-processing
     @SuppressWarnings("static-method")
     public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+        enterPhase("postProcessSupportingFileData");
         return objs;
     }
 
+    /**
+     * Marks the start of a generation phase when the profileGeneration option is enabled.
+     *
+     * @param phase name of the phase
+     */
+    protected void enterPhase(String phase) {
+        if (profiler != null) {
+            profiler.enter(phase);
+        }
+    }
+
+    protected void writeProfileReport() {
+        try {
+            profiler.writeReport(new File(outputFolder()));
+        } catch (IOException e) {
+            LOGGER.warn("Could not write generation profile report.", e);
+        }
+    }
+
+    public GenerationProfiler getProfiler() {
+        return profiler;
+    }
+
     // override to post-process any model properties
     @SuppressWarnings("unused")
     public void postProcessModelProperty(CodegenModel model, CodegenProperty property){
@@ -488,11 +547,43 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     @Override
     public void preprocessOpenAPI(OpenAPI openAPI) {
+        enterPhase("preprocessOpenAPI");
         this.openAPI = openAPI;
+        visitOpenAPI(openAPI);
+    }
+
+    /**
+     * Walks the specification once with the visitors of this generator, see
+     * {@link #addPreprocessVisitors(OpenAPI, List)}.
+     *
+     * @param openAPI the specification
+     */
+    protected void visitOpenAPI(OpenAPI openAPI) {
+        if (openAPI == null) {
+            return;
+        }
+        final List<OpenAPIVisitor> visitors = new ArrayList<>();
+        addPreprocessVisitors(openAPI, visitors);
+        OpenAPIWalker.walk(openAPI, visitors);
+    }
+
+    /**
+     * Adds the visitors of the walk over the specification done by {@link #preprocessOpenAPI(OpenAPI)}. Generators
+     * add their visitors after the ones of their superclass, instead of walking the specification again in their
+     * preprocessOpenAPI.
+     *
+     * @param openAPI the specification
+     * @param visitors the visitors of the walk
+     */
+    protected void addPreprocessVisitors(OpenAPI openAPI, List<OpenAPIVisitor> visitors) {
     }
 
     @Override
     public void processOpenAPI(OpenAPI openAPI) {
+        // called once every file is generated, the report covers the whole generation
+        if (profiler != null) {
+            writeProfileReport();
+        }
     }
 
     public Mustache.Compiler processCompiler(Mustache.Compiler compiler) {
@@ -511,18 +602,8 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             return input;
         }
 
-        // remove \t, \n, \r
-        // replace \ with \\
-        // replace " with \"
-        // outter unescape to retain the original multi-byte characters
-        // finally escalate characters avoiding code injection
-        return escapeUnsafeCharacters(
-                StringEscapeUtils.unescapeJava(
-                        StringEscapeUtils.escapeJava(input)
-                                .replace("\\/", "/"))
-                        .replaceAll("[\\t\\n\\r]"," ")
-                        .replace("\\", "\\\\")
-                        .replace("\"", "\\\""));
+        // escape in a single pass, then escalate characters avoiding code injection
+        return escapeUnsafeCharacters(TEXT_ESCAPER.escape(input));
     }
 
     /**
@@ -532,8 +613,11 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return string with unsafe characters removed or escaped
      */
     public String escapeUnsafeCharacters(String input) {
-        LOGGER.warn("escapeUnsafeCharacters should be overridden in the code generator with proper logic to escape " +
-                "unsafe characters");
+        if (!unsafeCharactersWarned) {
+            unsafeCharactersWarned = true;
+            LOGGER.warn("escapeUnsafeCharacters should be overridden in the code generator with proper logic to escape " +
+                    "unsafe characters");
+        }
         // doing nothing by default and code generator should implement
         // the logic to prevent code injection
         // later we'll make this method abstract to make sure
@@ -547,8 +631,11 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return string with quotation mark removed or escaped
      */
     public String escapeQuotationMark(String input) {
-        LOGGER.warn("escapeQuotationMark should be overridden in the code generator with proper logic to escape " +
-                "single/double quote");
+        if (!quotationMarkWarned) {
+            quotationMarkWarned = true;
+            LOGGER.warn("escapeQuotationMark should be overridden in the code generator with proper logic to escape " +
+                    "single/double quote");
+        }
         return input.replace("\"", "\\\"");
     }
 
@@ -951,8 +1038,12 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         cliOptions.add(CliOption.newBoolean(CodegenConstants.ALLOW_UNICODE_IDENTIFIERS, CodegenConstants
                 .ALLOW_UNICODE_IDENTIFIERS_DESC).defaultValue(Boolean.FALSE.toString()));
 
+        cliOptions.add(CliOption.newBoolean(PROFILE_GENERATION, "Record time, allocation and invocation count of "
+                + "each generation phase and template, written to generation-profile.json/.csv in the output folder")
+                .defaultValue(Boolean.FALSE.toString()));
+
         // initialize special character mapping
-        initalizeSpecialCharacterMapping(specialCharReplacements);
+        specialCharReplacements = getSpecialCharacterMappings();
     }
 
     /**
@@ -1320,6 +1411,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return Codegen Model object
      */
     public CodegenModel fromModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
+        enterPhase("fromModel");
         if (typeAliases == null) {
             // Only do this once during first call
             typeAliases = getAllAliases(allDefinitions);
@@ -1485,6 +1577,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             }
         }
 
+        canonicalize(codegenModel);
         return codegenModel;
     }
 
@@ -1601,6 +1694,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         codegenProperty.baseType = getSchemaType(propertySchema);
 
         processPropertySchemaContainerTypes(codegenProperty, propertySchema, type);
+        canonicalize(codegenProperty);
         return codegenProperty;
     }
 
@@ -2007,6 +2101,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return Codegen Operation object
      */
     public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, Map<String, Schema> schemas, OpenAPI openAPI) {
+        enterPhase("fromOperation");
         CodegenOperation codegenOperation = CodegenModelFactory.newInstance(CodegenModelType.OPERATION);
         Set<String> imports = new HashSet<String>();
         if (operation.getExtensions() != null && !operation.getExtensions().isEmpty()) {
@@ -2088,7 +2183,11 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                         }
                     }
                     if (!additionalProperties.containsKey(CodegenConstants.DISABLE_EXAMPLES_OPTION)) {
+                        final GenerationProfiler.Sample sample = profiler != null ? profiler.start("generateExamples") : null;
                         codegenOperation.examples = new ExampleGenerator(openAPI).generate(null, null, responseSchema);
+                        if (sample != null) {
+                            profiler.stop(sample);
+                        }
                     }
                     codegenOperation.defaultResponse = toDefaultValue(responseSchema);
                     codegenOperation.returnType = codegenProperty.datatype;
@@ -2403,6 +2502,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             codegenResponse.getVendorExtensions().put(CodegenConstants.IS_PRIMITIVE_TYPE_EXT_NAME, Boolean.TRUE);
             codegenResponse.getVendorExtensions().put(CodegenConstants.IS_SIMPLE_TYPE_EXT_NAME, Boolean.TRUE);
         }
+        canonicalize(codegenResponse);
         return codegenResponse;
     }
 
@@ -2645,6 +2745,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         setParameterExampleValue(codegenParameter);
 
         postProcessParameter(codegenParameter);
+        canonicalize(codegenParameter);
         return codegenParameter;
     }
 
@@ -2776,6 +2877,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
         setParameterExampleValue(codegenParameter);
         postProcessParameter(codegenParameter);
+        canonicalize(codegenParameter);
         return codegenParameter;
     }
 
@@ -2888,10 +2990,16 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     protected void setReservedWordsLowerCase(List<String> words) {
-        reservedWords = new HashSet<String>();
-        for (String word : words) {
-            reservedWords.add(word.toLowerCase());
+        Set<String> lowerCaseWords = LOWER_CASE_RESERVED_WORDS.get(words);
+        if (lowerCaseWords == null) {
+            lowerCaseWords = new HashSet<String>();
+            for (String word : words) {
+                lowerCaseWords.add(word.toLowerCase());
+            }
+            lowerCaseWords = Collections.unmodifiableSet(lowerCaseWords);
+            LOWER_CASE_RESERVED_WORDS.putIfAbsent(new ArrayList<>(words), lowerCaseWords);
         }
+        reservedWords = new CopyOnWriteSet<>(lowerCaseWords);
     }
 
     protected void setReservedWords(List<String> words) {
@@ -3702,14 +3810,17 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     @Override
     public void addHandlebarHelpers(Handlebars handlebars) {
-        handlebars.registerHelper(IsHelper.NAME, new IsHelper());
-        handlebars.registerHelper(HasHelper.NAME, new HasHelper());
-        handlebars.registerHelper(IsNotHelper.NAME, new IsNotHelper());
-        handlebars.registerHelper(HasNotHelper.NAME, new HasNotHelper());
-        handlebars.registerHelper(BracesHelper.NAME, new BracesHelper());
-        handlebars.registerHelper(BaseItemsHelper.NAME, new BaseItemsHelper());
-        handlebars.registerHelper(NotEmptyHelper.NAME, new NotEmptyHelper());
-        handlebars.registerHelpers(new StringUtilHelper());
+        handlebars.registerHelper(IsHelper.NAME, IS_HELPER);
+        handlebars.registerHelper(HasHelper.NAME, HAS_HELPER);
+        handlebars.registerHelper(IsNotHelper.NAME, IS_NOT_HELPER);
+        handlebars.registerHelper(HasNotHelper.NAME, HAS_NOT_HELPER);
+        handlebars.registerHelper(BracesHelper.NAME, BRACES_HELPER);
+        handlebars.registerHelper(BaseItemsHelper.NAME, BASE_ITEMS_HELPER);
+        handlebars.registerHelper(NotEmptyHelper.NAME, NOT_EMPTY_HELPER);
+        handlebars.registerHelpers(STRING_UTIL_HELPER);
+        if (profiler != null) {
+            handlebars.with(profiler.profile(handlebars.getCache()));
+        }
     }
 
     @Override
@@ -3718,6 +3829,30 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if (StringUtils.isBlank(argumentsLocation)) {
             return null;
         }
+        // parse the arguments once per generator class, every instance gets its own copies to set values on
+        final String key = getClass().getName() + ":" + argumentsLocation;
+        Optional<List<CodegenArgument>> arguments = LANGUAGE_ARGUMENTS.get(key);
+        if (arguments == null) {
+            arguments = Optional.ofNullable(parseLanguageArguments(argumentsLocation));
+            LANGUAGE_ARGUMENTS.putIfAbsent(key, arguments);
+        }
+        if (!arguments.isPresent()) {
+            return null;
+        }
+        final List<CodegenArgument> languageArguments = new ArrayList<>(arguments.get().size());
+        for (CodegenArgument argument : arguments.get()) {
+            languageArguments.add(new CodegenArgument()
+                    .option(argument.getOption())
+                    .shortOption(argument.getShortOption())
+                    .description(argument.getDescription())
+                    .type(argument.getType())
+                    .value(argument.getValue())
+                    .isArray(argument.getArray()));
+        }
+        return languageArguments;
+    }
+
+    private List<CodegenArgument> parseLanguageArguments(String argumentsLocation) {
         final InputStream inputStream = getClass().getResourceAsStream(argumentsLocation);
         if (inputStream == null) {
             return null;
@@ -3894,45 +4029,15 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
 
         // put "enumVars" map into `allowableValues", including `name` and `value`
-        List<Map<String, String>> enumVars = new ArrayList<>();
-        String commonPrefix = findCommonPrefixOfVars(values);
-        int truncateIdx = commonPrefix.length();
-        for (Object value : values) {
-            Map<String, String> enumVar = new HashMap<String, String>();
-            String enumName = findEnumName(truncateIdx, value);
-            enumVar.put("name", toEnumVarName(enumName, var.datatype));
-            if (value == null) {
-                enumVar.put("value", toEnumValue(null, var.datatype));
-            } else {
-                enumVar.put("value", toEnumValue(value.toString(), var.datatype));
-            }
-            enumVars.add(enumVar);
-        }
+        List<Map<String, String>> enumVars = toEnumVars(values, var.datatype);
         allowableValues.put("enumVars", enumVars);
 
-        // check repeated enum var names
-        if (enumVars != null & !enumVars.isEmpty()) {
-            for (int i = 0; i < enumVars.size(); i++) {
-                final Map<String, String> enumVarList = enumVars.get(i);
-                final String enumVarName = enumVarList.get("name");
-                for (int j = 0; j < enumVars.size(); j++) {
-                    if (i == j) {
-                        continue;
-                    }
-                    final Map<String, String> enumVarToCheckList = enumVars.get(j);
-                    final String enumVarNameToCheck = enumVarToCheckList.get("name");
-                    if (enumVarName.equals(enumVarNameToCheck)) {
-                        enumVarToCheckList.put("name", enumVarName + "_" + j);
-                    }
-                }
-            }
-        }
-
         // handle default value for enum, e.g. available => StatusEnum.AVAILABLE
         if (var.defaultValue != null) {
             String enumName = null;
+            final String defaultEnumValue = toEnumValue(var.defaultValue, var.datatype);
             for (Map<String, String> enumVar : enumVars) {
-                if (toEnumValue(var.defaultValue, var.datatype).equals(enumVar.get("value"))) {
+                if (defaultEnumValue.equals(enumVar.get("value"))) {
                     enumName = enumVar.get("name");
                     break;
                 }
@@ -3943,6 +4048,218 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
     }
 
+    /**
+     * Returns the "enumVars" (with name and value) of the given enum values. Repeated names get the index of the
+     * value as suffix.
+     * <p>
+     * The names only depend on the values and the data type, so the list is computed once and the same
+     * unmodifiable instance is returned for every enum declaring the same values, e.g. properties referencing a
+     * large country code enum.
+     *
+     * @param values the allowable values of the enum
+     * @param dataType data type of the enum
+     * @return the enum vars
+     */
+    protected List<Map<String, String>> toEnumVars(List<Object> values, String dataType) {
+        final EnumVarsKey key = new EnumVarsKey(dataType, values);
+        List<Map<String, String>> enumVars = enumVarsCache.get(key);
+        if (enumVars != null) {
+            return enumVars;
+        }
+        final String commonPrefix = findCommonPrefixOfVars(values);
+        final int truncateIdx = commonPrefix.length();
+        final Set<String> names = new HashSet<>();
+        enumVars = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            final Object value = values.get(i);
+            String name = toEnumVarName(findEnumName(truncateIdx, value), dataType);
+            if (!names.add(name)) {
+                name = name + "_" + i;
+                names.add(name);
+            }
+            final Map<String, String> enumVar = new HashMap<>();
+            enumVar.put("name", name);
+            enumVar.put("value", toEnumValue(value == null ? null : value.toString(), dataType));
+            enumVars.add(Collections.unmodifiableMap(enumVar));
+        }
+        enumVars = Collections.unmodifiableList(enumVars);
+        enumVarsCache.put(new EnumVarsKey(dataType, new ArrayList<>(values)), enumVars);
+        return enumVars;
+    }
+
+    /**
+     * Returns the instance of the string already held by the generated objects of this run, if any. Large
+     * specifications repeat the same data types, accessor names, schema JSON and descriptions many thousand times,
+     * keeping one instance of them bounds the heap to the distinct values.
+     *
+     * @param value a string
+     * @return an equal string, the same instance for every equal value
+     */
+    protected String canonicalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        final String canonical = canonicalStrings.putIfAbsent(value, value);
+        return canonical == null ? value : canonical;
+    }
+
+    /**
+     * Replaces the vendor extensions of the object by a copy on write view of an equal table of this run, if any.
+     * Most generated objects only hold boolean flags, and a few distinct combinations of them, so the views are
+     * much smaller than a map per object. Only tables of booleans and strings are shared, other values might be
+     * changed in place.
+     *
+     * @param codegenObject a model, property, parameter or response
+     */
+    protected void canonicalizeVendorExtensions(CodegenObject codegenObject) {
+        final Map<String, Object> vendorExtensions = codegenObject.vendorExtensions;
+        if (vendorExtensions == null || vendorExtensions.isEmpty()
+                || (vendorExtensions instanceof CopyOnWriteMap && ((CopyOnWriteMap<String, Object>) vendorExtensions).isShared())) {
+            return;
+        }
+        for (Object value : vendorExtensions.values()) {
+            if (value != null && !(value instanceof Boolean) && !(value instanceof String)) {
+                return;
+            }
+        }
+        Map<String, Object> canonical = canonicalVendorExtensions.get(vendorExtensions);
+        if (canonical == null) {
+            canonical = new HashMap<>(vendorExtensions);
+            canonicalVendorExtensions.put(canonical, canonical);
+        }
+        codegenObject.vendorExtensions = new CopyOnWriteMap<>(canonical);
+    }
+
+    protected void canonicalize(CodegenModel codegenModel) {
+        codegenModel.parent = canonicalize(codegenModel.parent);
+        codegenModel.parentSchema = canonicalize(codegenModel.parentSchema);
+        codegenModel.name = canonicalize(codegenModel.name);
+        codegenModel.classname = canonicalize(codegenModel.classname);
+        codegenModel.title = canonicalize(codegenModel.title);
+        codegenModel.description = canonicalize(codegenModel.description);
+        codegenModel.unescapedDescription = canonicalize(codegenModel.unescapedDescription);
+        codegenModel.classVarName = canonicalize(codegenModel.classVarName);
+        codegenModel.classFilename = canonicalize(codegenModel.classFilename);
+        codegenModel.modelJson = canonicalize(codegenModel.modelJson);
+        codegenModel.dataType = canonicalize(codegenModel.dataType);
+        codegenModel.defaultValue = canonicalize(codegenModel.defaultValue);
+        codegenModel.arrayModelType = canonicalize(codegenModel.arrayModelType);
+        codegenModel.additionalPropertiesType = canonicalize(codegenModel.additionalPropertiesType);
+        codegenModel.xmlPrefix = canonicalize(codegenModel.xmlPrefix);
+        codegenModel.xmlNamespace = canonicalize(codegenModel.xmlNamespace);
+        codegenModel.xmlName = canonicalize(codegenModel.xmlName);
+        canonicalizeVendorExtensions(codegenModel);
+        // model properties may have been changed by postProcessModelProperty
+        canonicalize(codegenModel.vars);
+        canonicalize(codegenModel.allVars);
+        canonicalize(codegenModel.requiredVars);
+        canonicalize(codegenModel.optionalVars);
+        canonicalize(codegenModel.readOnlyVars);
+        canonicalize(codegenModel.readWriteVars);
+        canonicalize(codegenModel.parentVars);
+    }
+
+    private void canonicalize(List<CodegenProperty> codegenProperties) {
+        if (codegenProperties == null) {
+            return;
+        }
+        for (CodegenProperty codegenProperty : codegenProperties) {
+            canonicalize(codegenProperty);
+        }
+    }
+
+    protected void canonicalize(CodegenProperty codegenProperty) {
+        codegenProperty.name = canonicalize(codegenProperty.name);
+        codegenProperty.baseName = canonicalize(codegenProperty.baseName);
+        codegenProperty.nameInCamelCase = canonicalize(codegenProperty.nameInCamelCase);
+        codegenProperty.getter = canonicalize(codegenProperty.getter);
+        codegenProperty.setter = canonicalize(codegenProperty.setter);
+        codegenProperty.title = canonicalize(codegenProperty.title);
+        codegenProperty.description = canonicalize(codegenProperty.description);
+        codegenProperty.unescapedDescription = canonicalize(codegenProperty.unescapedDescription);
+        codegenProperty.datatype = canonicalize(codegenProperty.datatype);
+        codegenProperty.datatypeWithEnum = canonicalize(codegenProperty.datatypeWithEnum);
+        codegenProperty.dataFormat = canonicalize(codegenProperty.dataFormat);
+        codegenProperty.baseType = canonicalize(codegenProperty.baseType);
+        codegenProperty.complexType = canonicalize(codegenProperty.complexType);
+        codegenProperty.containerType = canonicalize(codegenProperty.containerType);
+        codegenProperty.enumName = canonicalize(codegenProperty.enumName);
+        codegenProperty.defaultValue = canonicalize(codegenProperty.defaultValue);
+        codegenProperty.defaultValueWithParam = canonicalize(codegenProperty.defaultValueWithParam);
+        codegenProperty.example = canonicalize(codegenProperty.example);
+        codegenProperty.jsonSchema = canonicalize(codegenProperty.jsonSchema);
+        codegenProperty.pattern = canonicalize(codegenProperty.pattern);
+        codegenProperty.min = canonicalize(codegenProperty.min);
+        codegenProperty.max = canonicalize(codegenProperty.max);
+        codegenProperty.minimum = canonicalize(codegenProperty.minimum);
+        codegenProperty.maximum = canonicalize(codegenProperty.maximum);
+        codegenProperty.discriminatorValue = canonicalize(codegenProperty.discriminatorValue);
+        codegenProperty.xmlPrefix = canonicalize(codegenProperty.xmlPrefix);
+        codegenProperty.xmlName = canonicalize(codegenProperty.xmlName);
+        codegenProperty.xmlNamespace = canonicalize(codegenProperty.xmlNamespace);
+        canonicalizeVendorExtensions(codegenProperty);
+    }
+
+    protected void canonicalize(CodegenParameter codegenParameter) {
+        codegenParameter.baseName = canonicalize(codegenParameter.baseName);
+        codegenParameter.paramName = canonicalize(codegenParameter.paramName);
+        codegenParameter.description = canonicalize(codegenParameter.description);
+        codegenParameter.unescapedDescription = canonicalize(codegenParameter.unescapedDescription);
+        codegenParameter.dataType = canonicalize(codegenParameter.dataType);
+        codegenParameter.datatypeWithEnum = canonicalize(codegenParameter.datatypeWithEnum);
+        codegenParameter.dataFormat = canonicalize(codegenParameter.dataFormat);
+        codegenParameter.baseType = canonicalize(codegenParameter.baseType);
+        codegenParameter.collectionFormat = canonicalize(codegenParameter.collectionFormat);
+        codegenParameter.enumName = canonicalize(codegenParameter.enumName);
+        codegenParameter.defaultValue = canonicalize(codegenParameter.defaultValue);
+        codegenParameter.example = canonicalize(codegenParameter.example);
+        codegenParameter.testExample = canonicalize(codegenParameter.testExample);
+        codegenParameter.jsonSchema = canonicalize(codegenParameter.jsonSchema);
+        codegenParameter.pattern = canonicalize(codegenParameter.pattern);
+        codegenParameter.minimum = canonicalize(codegenParameter.minimum);
+        codegenParameter.maximum = canonicalize(codegenParameter.maximum);
+        canonicalizeVendorExtensions(codegenParameter);
+    }
+
+    protected void canonicalize(CodegenResponse codegenResponse) {
+        codegenResponse.code = canonicalize(codegenResponse.code);
+        codegenResponse.message = canonicalize(codegenResponse.message);
+        codegenResponse.dataType = canonicalize(codegenResponse.dataType);
+        codegenResponse.baseType = canonicalize(codegenResponse.baseType);
+        codegenResponse.containerType = canonicalize(codegenResponse.containerType);
+        codegenResponse.jsonSchema = canonicalize(codegenResponse.jsonSchema);
+        canonicalizeVendorExtensions(codegenResponse);
+    }
+
+    private static final class EnumVarsKey {
+        private final String dataType;
+        private final List<Object> values;
+        private final int hashCode;
+
+        private EnumVarsKey(String dataType, List<Object> values) {
+            this.dataType = dataType;
+            this.values = values;
+            this.hashCode = 31 * String.valueOf(dataType).hashCode() + this.values.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EnumVarsKey)) {
+                return false;
+            }
+            final EnumVarsKey other = (EnumVarsKey) o;
+            return hashCode == other.hashCode && StringUtils.equals(dataType, other.dataType) && values.equals(other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     /**
      * If the pattern misses the delimiter, add "/" to the beginning and end
      * Otherwise, return the original pattern
@@ -0,0 +1,144 @@
+package io.swagger.codegen.v3.generators;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.CodegenType;
+import io.swagger.v3.core.util.Yaml;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Index of the generators of this module, read from <code>META-INF/swagger-codegen/generators.yaml</code>.
+ * <p>
+ * Looking up a generator through {@link ServiceLoader} constructs every registered generator. The index lists
+ * generators and their libraries from metadata only, and {@link #newGenerator(String)} constructs the selected
+ * generator alone. The build writes the index from the service registrations by running {@link #main(String[])}
+ * in the <code>process-classes</code> phase.
+ */
+public class GeneratorIndex {
+
+    public static final String INDEX_LOCATION = "/META-INF/swagger-codegen/generators.yaml";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorIndex.class);
+
+    private final Map<String, GeneratorMetadata> generators = new LinkedHashMap<>();
+
+    GeneratorIndex(List<GeneratorMetadata> generators) {
+        for (GeneratorMetadata generator : generators) {
+            this.generators.put(generator.getName(), generator);
+        }
+    }
+
+    /**
+     * @return the index of the generators, read on first use
+     */
+    public static GeneratorIndex getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static class Holder {
+        private static final GeneratorIndex INSTANCE = new GeneratorIndex(readIndex());
+    }
+
+    public List<GeneratorMetadata> getGenerators() {
+        return Collections.unmodifiableList(new ArrayList<>(generators.values()));
+    }
+
+    public List<GeneratorMetadata> getGenerators(CodegenType type) {
+        final List<GeneratorMetadata> result = new ArrayList<>();
+        for (GeneratorMetadata generator : generators.values()) {
+            if (generator.getType() == type) {
+                result.add(generator);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param name name of the generator
+     * @return the metadata of the generator, or null if there is none with this name
+     */
+    public GeneratorMetadata getGenerator(String name) {
+        return generators.get(name);
+    }
+
+    /**
+     * Constructs the generator with the given name, and only this one.
+     *
+     * @param name name of the generator
+     * @return a new instance of the generator
+     */
+    public CodegenConfig newGenerator(String name) {
+        final GeneratorMetadata generator = generators.get(name);
+        if (generator == null) {
+            throw new RuntimeException("Can't load config class with name ".concat(name) + " Available: " + String.join(", ", generators.keySet()));
+        }
+        try {
+            return (CodegenConfig) Class.forName(generator.getClassName()).newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException("Can't load config class " + generator.getClassName() + " of generator " + name, e);
+        }
+    }
+
+    static List<GeneratorMetadata> readIndex() {
+        try (InputStream inputStream = GeneratorIndex.class.getResourceAsStream(INDEX_LOCATION)) {
+            if (inputStream != null) {
+                return Yaml.mapper().readValue(inputStream, new TypeReference<List<GeneratorMetadata>>() {});
+            }
+            LOGGER.warn("Generator index " + INDEX_LOCATION + " not found, constructing the registered generators instead.");
+        } catch (IOException e) {
+            LOGGER.warn("Could not read generator index " + INDEX_LOCATION + ", constructing the registered generators instead.", e);
+        }
+        return createIndex();
+    }
+
+    /**
+     * Constructs every generator registered as {@link CodegenConfig} service to describe it.
+     *
+     * @return the metadata of the registered generators, sorted by name
+     */
+    static List<GeneratorMetadata> createIndex() {
+        final List<GeneratorMetadata> index = new ArrayList<>();
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class)) {
+            final GeneratorMetadata generator = new GeneratorMetadata();
+            generator.setName(config.getName());
+            generator.setClassName(config.getClass().getName());
+            generator.setType(config.getTag());
+            generator.setHelp(config.getHelp());
+            generator.setLibraries(new ArrayList<>(config.supportedLibraries().keySet()));
+            generator.setTemplateDir(config instanceof DefaultCodegenConfig
+                    ? ((DefaultCodegenConfig) config).getDefaultTemplateDir() : config.templateDir());
+            index.add(generator);
+        }
+        index.sort(Comparator.comparing(GeneratorMetadata::getName));
+        return index;
+    }
+
+    /**
+     * Writes the index of the registered generators.
+     *
+     * @param args path of the index file, e.g. target/classes/META-INF/swagger-codegen/generators.yaml
+     * @throws IOException if the file can not be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: GeneratorIndex <index file>");
+        }
+        final File file = new File(args[0]);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        Yaml.pretty().writeValue(file, createIndex());
+    }
+}
@@ -0,0 +1,95 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.CodegenType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Describes a generator without constructing it, see {@link GeneratorIndex}.
+ */
+public class GeneratorMetadata {
+
+    private String name;
+    private String className;
+    private CodegenType type;
+    private String help;
+    private List<String> libraries = new ArrayList<>();
+    private String templateDir;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public void setClassName(String className) {
+        this.className = className;
+    }
+
+    public CodegenType getType() {
+        return type;
+    }
+
+    public void setType(CodegenType type) {
+        this.type = type;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public void setHelp(String help) {
+        this.help = help;
+    }
+
+    public List<String> getLibraries() {
+        return libraries;
+    }
+
+    public void setLibraries(List<String> libraries) {
+        this.libraries = libraries;
+    }
+
+    public String getTemplateDir() {
+        return templateDir;
+    }
+
+    public void setTemplateDir(String templateDir) {
+        this.templateDir = templateDir;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final GeneratorMetadata that = (GeneratorMetadata) o;
+        return Objects.equals(name, that.name)
+                && Objects.equals(className, that.className)
+                && type == that.type
+                && Objects.equals(help, that.help)
+                && Objects.equals(libraries, that.libraries)
+                && Objects.equals(templateDir, that.templateDir);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, className, type, help, libraries, templateDir);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + className + ")";
+    }
+}
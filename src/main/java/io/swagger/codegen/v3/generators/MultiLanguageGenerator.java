@@ -0,0 +1,170 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.ClientOptInput;
+import io.swagger.codegen.v3.ClientOpts;
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.DefaultGenerator;
+import io.swagger.codegen.v3.generators.util.OpenAPICopier;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates several languages from one parsed specification in a single run.
+ * <p>
+ * The specification is parsed, resolved and flattened once. Every language then generates on its own thread from its
+ * own copy of it, because generators modify the specification while preprocessing it. Each generator must have its
+ * own output folder.
+ */
+public class MultiLanguageGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultiLanguageGenerator.class);
+
+    private final OpenAPI openAPI;
+    private OpenAPI unflattenedOpenAPI;
+    private final List<CodegenConfig> configs = new ArrayList<>();
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * @param openAPI the parsed specification, it is not modified by generation
+     */
+    public MultiLanguageGenerator(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+    }
+
+    /**
+     * Parses, resolves and flattens a specification the way generation does for a single language.
+     *
+     * @param inputSpecURL location of the specification
+     * @return the parsed specification
+     */
+    public static OpenAPI parse(String inputSpecURL) {
+        final ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setFlatten(true);
+        final SwaggerParseResult result = new OpenAPIParser().readLocation(inputSpecURL, null, options);
+        if (result == null || result.getOpenAPI() == null) {
+            throw new IllegalArgumentException("Could not parse specification " + inputSpecURL
+                    + (result != null && result.getMessages() != null ? ": " + result.getMessages() : ""));
+        }
+        return result.getOpenAPI();
+    }
+
+    /**
+     * @param unflattenedOpenAPI the specification parsed without flattening, for generators which need it
+     * @return this generator
+     */
+    public MultiLanguageGenerator unflattenedOpenAPI(OpenAPI unflattenedOpenAPI) {
+        this.unflattenedOpenAPI = unflattenedOpenAPI;
+        return this;
+    }
+
+    /**
+     * @param config a configured generator with its own output folder
+     * @return this generator
+     */
+    public MultiLanguageGenerator config(CodegenConfig config) {
+        configs.add(config);
+        return this;
+    }
+
+    /**
+     * Adds a language by name. Its generator is looked up in the {@link GeneratorIndex}, so no other generator is
+     * constructed.
+     *
+     * @param language name of the generator, e.g. java
+     * @param outputDir output folder of the generator
+     * @return the added generator, to be configured further
+     */
+    public CodegenConfig config(String language, String outputDir) {
+        final CodegenConfig config = GeneratorIndex.getInstance().newGenerator(language);
+        config.setOutputDir(outputDir);
+        configs.add(config);
+        return config;
+    }
+
+    /**
+     * @param threads maximum number of languages generated at the same time
+     * @return this generator
+     */
+    public MultiLanguageGenerator threads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1");
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Generates every language, and fails with the first failing language once all the others are done.
+     *
+     * @return the generated files by output folder
+     */
+    public Map<String, List<File>> generate() {
+        final Set<String> outputFolders = new HashSet<>();
+        for (CodegenConfig config : configs) {
+            if (!outputFolders.add(new File(config.getOutputDir()).getAbsolutePath())) {
+                throw new IllegalArgumentException("Output folder " + config.getOutputDir() + " is used by more than one generator");
+            }
+        }
+        final Map<String, List<File>> files = new LinkedHashMap<>();
+        if (configs.isEmpty()) {
+            return files;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, configs.size()));
+        try {
+            final Map<CodegenConfig, Future<List<File>>> futures = new LinkedHashMap<>();
+            for (CodegenConfig config : configs) {
+                futures.put(config, executor.submit(() -> generate(config)));
+            }
+            RuntimeException failure = null;
+            for (Map.Entry<CodegenConfig, Future<List<File>>> entry : futures.entrySet()) {
+                final CodegenConfig config = entry.getKey();
+                try {
+                    files.put(config.getOutputDir(), entry.getValue().get());
+                } catch (ExecutionException e) {
+                    LOGGER.error("Could not generate " + config.getName() + " into " + config.getOutputDir(), e.getCause());
+                    if (failure == null) {
+                        failure = new RuntimeException("Could not generate " + config.getName() + " into " + config.getOutputDir(), e.getCause());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while generating " + config.getName(), e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return files;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<File> generate(CodegenConfig config) {
+        final OpenAPI copy = OpenAPICopier.copy(openAPI);
+        if (unflattenedOpenAPI != null && config.needsUnflattenedSpec()) {
+            config.setUnflattenedOpenAPI(OpenAPICopier.copy(unflattenedOpenAPI));
+        }
+        final ClientOptInput input = new ClientOptInput()
+                .opts(new ClientOpts())
+                .config(config)
+                .openAPI(copy);
+        return new DefaultGenerator().opts(input).generate();
+    }
+}
@@ -16,6 +16,7 @@ import io.swagger.codegen.v3.generators.handlebars.lambda.LowercaseLambda;
 import io.swagger.codegen.v3.generators.handlebars.lambda.TitlecaseLambda;
 import io.swagger.codegen.v3.generators.handlebars.lambda.UppercaseLambda;
 import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.OpenAPIVisitor;
 import io.swagger.codegen.v3.utils.ModelUtils;
 import io.swagger.codegen.v3.utils.URLPathUtil;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -42,6 +43,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,6 +53,8 @@ import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBoo
 
 public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
 
+    private static final CsharpHelper CSHARP_HELPER = new CsharpHelper();
+
     protected boolean optionalAssemblyInfoFlag = true;
     protected boolean optionalProjectFileFlag = true;
     protected boolean optionalEmitDefaultValue = false;
@@ -83,6 +87,10 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
     protected Set<String> collectionTypes;
     protected Set<String> mapTypes;
 
+    // types registered in a System.Text.Json JsonSerializerContext, for the generators emitting one
+    protected final Set<String> jsonSerializableTypes = new LinkedHashSet<>();
+    protected boolean hasJsonModels = false;
+
     protected Logger LOGGER = LoggerFactory.getLogger(AbstractCSharpCodegen.class);
 
     public AbstractCSharpCodegen() {
@@ -404,6 +412,49 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
         return processed;
     }
 
+    /**
+     * Registers a type in the JsonSerializerContext, streams are excluded as they are never serialized as json.
+     *
+     * @param type C# data type
+     */
+    protected void addJsonSerializableType(String type) {
+        if (type != null && !"System.IO.Stream".equals(type)) {
+            jsonSerializableTypes.add(type);
+        }
+    }
+
+    /**
+     * Registers in the JsonSerializerContext the models which are written as classes; composed models, aliases of
+     * primitive types and import mapped models have no generated class.
+     *
+     * @param models processed models
+     */
+    protected void addJsonSerializableModels(Map<String, Object> models) {
+        for (String name : models.keySet()) {
+            final CodegenModel model = ModelUtils.getModelByName(name, models);
+            if (model == null || model.getIsComposedModel() || !isModelGenerated(name, model)) {
+                continue;
+            }
+            jsonSerializableTypes.add(model.classname);
+            hasJsonModels = true;
+        }
+    }
+
+    protected void putJsonSerializableTypes(Map<String, Object> objs) {
+        objs.put("jsonSerializableTypes", new ArrayList<>(jsonSerializableTypes));
+        objs.put("hasJsonModels", hasJsonModels);
+    }
+
+    private boolean isModelGenerated(String name, CodegenModel model) {
+        if (!getIgnoreImportMapping() && importMapping.containsKey(name)) {
+            return false;
+        }
+        if (getBooleanValue(model, CodegenConstants.IS_ALIAS_EXT_NAME)) {
+            return false;
+        }
+        return typeAliases == null || !typeAliases.containsKey(name);
+    }
+
     /**
      * C# differs from other languages in that Enums are not _true_ objects; enums are compiled to integral types.
      * So, in C#, an enum is considers more like a user-defined primitive.
@@ -468,7 +519,7 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
 
                     // Since we iterate enumVars for modelnnerEnum and enumClass templates, and CodegenModel is missing some of CodegenProperty's properties,
                     // we can take advantage of Mustache's contextual lookup to add the same "properties" to the model's enumVars scope rather than CodegenProperty's scope.
-                    List<Map<String, String>> enumVars = (ArrayList<Map<String, String>>)model.allowableValues.get("enumVars");
+                    List<Map<String, String>> enumVars = (List<Map<String, String>>) model.allowableValues.get("enumVars");
                     List<Map<String, Object>> newEnumVars = new ArrayList<Map<String, Object>>();
                     for (Map<String, String> enumVar : enumVars) {
                         Map<String, Object> mixedVars = new HashMap<String, Object>();
@@ -1009,53 +1060,58 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
         } else {
             additionalProperties.put("serverUrl", URLPathUtil.LOCAL_HOST);
         }
+    }
 
+    @Override
+    protected void addPreprocessVisitors(OpenAPI openAPI, List<OpenAPIVisitor> visitors) {
+        super.addPreprocessVisitors(openAPI, visitors);
         if (this.preserveNewLines) {
-            Map<String, Schema> schemaMap = openAPI.getComponents() != null ? openAPI.getComponents().getSchemas() : null;
-            if (schemaMap != null) {
-                for (String name : schemaMap.keySet()) {
-                    Schema schema = schemaMap.get(name);
-                    if (StringUtils.isNotBlank(schema.getDescription())) {
-                        schema.setDescription(preserveNewlines(schema.getDescription(), 1));
-                    }
-                    Map<String, Schema> propertiesMap = schema.getProperties();
-                    if (propertiesMap!= null && !propertiesMap.isEmpty()) {
+            visitors.add(new PreserveNewLinesVisitor());
+        }
+    }
 
-                        for (String propertyName : propertiesMap.keySet()) {
-                            Schema propertySchema = propertiesMap.get(propertyName);
-                            if (StringUtils.isNotBlank(propertySchema.getDescription())) {
-                                propertySchema.setDescription(preserveNewlines(propertySchema.getDescription(), 2));
-                            }
-                        }
+    /**
+     * Marks the new lines of schema, property, operation, parameter and response descriptions to preserve them.
+     */
+    protected class PreserveNewLinesVisitor implements OpenAPIVisitor {
+
+        @Override
+        public void visitSchema(String name, Schema schema) {
+            if (StringUtils.isNotBlank(schema.getDescription())) {
+                schema.setDescription(preserveNewlines(schema.getDescription(), 1));
+            }
+            Map<String, Schema> propertiesMap = schema.getProperties();
+            if (propertiesMap != null && !propertiesMap.isEmpty()) {
+                for (String propertyName : propertiesMap.keySet()) {
+                    Schema propertySchema = propertiesMap.get(propertyName);
+                    if (StringUtils.isNotBlank(propertySchema.getDescription())) {
+                        propertySchema.setDescription(preserveNewlines(propertySchema.getDescription(), 2));
                     }
                 }
             }
-            for (String pathname : openAPI.getPaths().keySet()) {
-                PathItem path = openAPI.getPaths().get(pathname);
-                for (Operation op : path.readOperations()) {
-                    if (StringUtils.isNotBlank(op.getDescription())) {
-                        op.setDescription(preserveNewlines(op.getDescription(), 2));
-                    }
-                    if (StringUtils.isNotBlank(op.getSummary())) {
-                        op.setSummary(preserveNewlines(op.getSummary(), 2));
-                    }
-                    if (op.getParameters() != null) {
-                        for (Parameter param : op.getParameters()) {
-                            if (StringUtils.isNotBlank(param.getDescription())) {
-                                param.setDescription(preserveNewlines(param.getDescription(), 2));
-                            }
-                        }
-                    }
-                    if (op.getResponses() != null) {
-                        for (String responseCode : op.getResponses().keySet()) {
-                            ApiResponse response = op.getResponses().get(responseCode);
+        }
 
-                            if (StringUtils.isNotBlank(response.getDescription())) {
-                                response.setDescription(preserveNewlines(response.getDescription(), 2));
-                            }
-                        }
-                    }
-                }
+        @Override
+        public void visitOperation(String pathname, PathItem.HttpMethod method, Operation op, PathItem pathItem) {
+            if (StringUtils.isNotBlank(op.getDescription())) {
+                op.setDescription(preserveNewlines(op.getDescription(), 2));
+            }
+            if (StringUtils.isNotBlank(op.getSummary())) {
+                op.setSummary(preserveNewlines(op.getSummary(), 2));
+            }
+        }
+
+        @Override
+        public void visitParameter(Operation op, Parameter param) {
+            if (StringUtils.isNotBlank(param.getDescription())) {
+                param.setDescription(preserveNewlines(param.getDescription(), 2));
+            }
+        }
+
+        @Override
+        public void visitResponse(Operation op, String responseCode, ApiResponse response) {
+            if (StringUtils.isNotBlank(response.getDescription())) {
+                response.setDescription(preserveNewlines(response.getDescription(), 2));
             }
         }
     }
@@ -1093,7 +1149,7 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
     @Override
     public void addHandlebarHelpers(Handlebars handlebars) {
         super.addHandlebarHelpers(handlebars);
-        handlebars.registerHelpers(new CsharpHelper());
+        handlebars.registerHelpers(CSHARP_HELPER);
     }
 
     @Override
@@ -5,6 +5,8 @@ import com.samskivert.mustache.Mustache;
 import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenContent;
 import io.swagger.codegen.v3.CodegenOperation;
+import io.swagger.codegen.v3.CodegenParameter;
+import io.swagger.codegen.v3.CodegenResponse;
 import io.swagger.codegen.v3.CodegenSecurity;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
@@ -30,8 +32,15 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
     private static final String ASP_NET_CORE_VERSION_OPTION = "--aspnet-core-version";
     private static final String INTERFACE_ONLY_OPTION = "--interface-only";
     private static final String INTERFACE_CONTROLLER_OPTION = "--interface-controller";
+    private static final String NATIVE_AOT_OPTION = "--native-aot";
     private final String DEFAULT_ASP_NET_CORE_VERSION = "3.1";
+    private static final String MINIMAL_API_VERSION = "8.0";
     private String aspNetCoreVersion;
+    private boolean nativeAot = false;
+
+    public static final String MAP_METHOD_EXT_NAME = "x-map-method";
+    public static final String HTTP_METHOD_EXT_NAME = "x-http-method";
+    public static final String BINDING_TYPE_EXT_NAME = "x-binding-type";
 
     @SuppressWarnings("hiding")
     protected Logger LOGGER = LoggerFactory.getLogger(AspNetCoreServerCodegen.class);
@@ -99,9 +108,13 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
             false);
 
         addOption(ASP_NET_CORE_VERSION_OPTION.substring(2),
-            "ASP.NET Core version",
+            "ASP.NET Core version, " + MINIMAL_API_VERSION + " generates minimal API route handlers instead of MVC controllers",
             DEFAULT_ASP_NET_CORE_VERSION);
 
+        addSwitch(NATIVE_AOT_OPTION.substring(2),
+            "Publish the server as a native AOT executable (ASP.NET Core " + MINIMAL_API_VERSION + " only)",
+            false);
+
     }
 
     @Override
@@ -141,7 +154,17 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
 
         boolean isThreeDotOneVersion = aspNetCoreVersion.equals("3.1");
 
-        if (aspNetCoreVersion.equals("2.0")) {
+        if (isMinimalApi()) {
+            setNativeAot();
+            additionalProperties.put("nativeAot", nativeAot);
+
+            apiTemplateFiles.put("8.0/endpoints.mustache", ".cs");
+
+            supportingFiles.add(new SupportingFile("8.0/Program.mustache", packageFolder, "Program.cs"));
+            supportingFiles.add(new SupportingFile("8.0/Project.csproj.mustache", packageFolder, this.packageName + ".csproj"));
+            supportingFiles.add(new SupportingFile("8.0/Dockerfile.mustache", packageFolder, "Dockerfile"));
+            supportingFiles.add(new SupportingFile("8.0/AppJsonSerializerContext.mustache", packageFolder, "AppJsonSerializerContext.cs"));
+        } else if (aspNetCoreVersion.equals("2.0")) {
             apiTemplateFiles.put("controller.mustache", ".cs");
             addInterfaceControllerTemplate();
 
@@ -178,8 +201,13 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
             supportingFiles.add(new SupportingFile("3.0/Dockerfile.mustache", packageFolder, "Dockerfile"));
         }
 
+        if (isMinimalApi()) {
+            modelTemplateFiles.clear();
+            modelTemplateFiles.put("8.0/model.mustache", ".cs");
+        }
+
         if (!additionalProperties.containsKey(CodegenConstants.API_PACKAGE)) {
-            apiPackage = packageName + ".Controllers";
+            apiPackage = packageName + (isMinimalApi() ? ".Endpoints" : ".Controllers");
             additionalProperties.put(CodegenConstants.API_PACKAGE, apiPackage);
         }
 
@@ -196,10 +224,12 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
         supportingFiles.add(new SupportingFile("gitignore", packageFolder, ".gitignore"));
         supportingFiles.add(new SupportingFile("appsettings.json", packageFolder, "appsettings.json"));
 
-        supportingFiles.add(new SupportingFile("validateModel.mustache", packageFolder + File.separator + "Attributes", "ValidateModelStateAttribute.cs"));
+        if (!isMinimalApi()) {
+            supportingFiles.add(new SupportingFile("validateModel.mustache", packageFolder + File.separator + "Attributes", "ValidateModelStateAttribute.cs"));
+        }
         supportingFiles.add(new SupportingFile("web.config", packageFolder, "web.config"));
 
-        if (isThreeDotOneVersion) {
+        if (isThreeDotOneVersion || isMinimalApi()) {
             supportingFiles.add(new SupportingFile("3.1/Properties" + File.separator + "launchSettings.json", packageFolder + File.separator + "Properties", "launchSettings.json"));
         } else {
             supportingFiles.add(new SupportingFile("Properties" + File.separator + "launchSettings.json", packageFolder + File.separator + "Properties", "launchSettings.json"));
@@ -231,7 +261,7 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
 
     @Override
     public String apiFileFolder() {
-        return outputFolder + File.separator + sourceFolder + File.separator + packageName + File.separator + "Controllers";
+        return outputFolder + File.separator + sourceFolder + File.separator + packageName + File.separator + (isMinimalApi() ? "Endpoints" : "Controllers");
     }
 
     @Override
@@ -260,9 +290,21 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
                 LOGGER.error(e.getMessage(), e);
             }
         }
+        if (isMinimalApi()) {
+            putJsonSerializableTypes(objs);
+        }
         return super.postProcessSupportingFileData(objs);
     }
 
+    @Override
+    public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
+        final Map<String, Object> processed = super.postProcessAllModels(objs);
+        if (isMinimalApi()) {
+            addJsonSerializableModels(processed);
+        }
+        return processed;
+    }
+
 
     @Override
     protected void processOperation(CodegenOperation operation) {
@@ -277,6 +319,10 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
             }
         }
 
+        if (isMinimalApi()) {
+            processMinimalApiOperation(operation);
+        }
+
         // Converts, for example, PUT to HttpPut for controller attributes
         operation.httpMethod = "Http" + operation.httpMethod.substring(0, 1) + operation.httpMethod.substring(1).toLowerCase();
 
@@ -330,6 +376,54 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
         return securities;
     }
 
+    /**
+     * Selects the route builder method of the operation, binds list query and header parameters to arrays (the only
+     * collections minimal APIs bind without MVC) and registers the body types for source-generated serialization.
+     *
+     * @param operation operation of the minimal API server
+     */
+    private void processMinimalApiOperation(CodegenOperation operation) {
+        final String httpMethod = operation.httpMethod.toUpperCase();
+        operation.getVendorExtensions().put(HTTP_METHOD_EXT_NAME, httpMethod);
+        if ("GET".equals(httpMethod) || "POST".equals(httpMethod) || "PUT".equals(httpMethod)
+                || "DELETE".equals(httpMethod) || "PATCH".equals(httpMethod)) {
+            operation.getVendorExtensions().put(MAP_METHOD_EXT_NAME, "Map" + httpMethod.charAt(0) + httpMethod.substring(1).toLowerCase());
+        }
+
+        if (operation.getContents() != null) {
+            for (CodegenContent content : operation.getContents()) {
+                for (CodegenParameter parameter : content.getParameters()) {
+                    if (getBooleanValue(parameter, CodegenConstants.IS_BODY_PARAM_EXT_NAME)) {
+                        addJsonSerializableType(parameter.dataType);
+                    }
+                    final boolean isQueryOrHeader = getBooleanValue(parameter, CodegenConstants.IS_QUERY_PARAM_EXT_NAME)
+                            || getBooleanValue(parameter, CodegenConstants.IS_HEADER_PARAM_EXT_NAME);
+                    if (isQueryOrHeader && getBooleanValue(parameter, CodegenConstants.IS_LIST_CONTAINER_EXT_NAME) && parameter.items != null) {
+                        parameter.getVendorExtensions().put(BINDING_TYPE_EXT_NAME, parameter.items.datatype + "[]");
+                    }
+                }
+            }
+        }
+
+        addJsonSerializableType(operation.returnType);
+        for (CodegenResponse response : operation.responses) {
+            addJsonSerializableType(response.dataType);
+        }
+    }
+
+    private boolean isMinimalApi() {
+        return MINIMAL_API_VERSION.equals(aspNetCoreVersion);
+    }
+
+    private void setNativeAot() {
+        String nativeAotOption = getOptionValue(NATIVE_AOT_OPTION);
+        if (StringUtils.isNotBlank(nativeAotOption)) {
+            nativeAot = Boolean.valueOf(nativeAotOption);
+        } else if (additionalProperties.get(NATIVE_AOT_OPTION.substring(2)) != null) {
+            nativeAot = Boolean.valueOf(additionalProperties.get(NATIVE_AOT_OPTION.substring(2)).toString());
+        }
+    }
+
     private void addInterfaceControllerTemplate() {
         String interfaceOnlyOption = getOptionValue(INTERFACE_ONLY_OPTION);
         boolean interfaceOnly = false;
@@ -378,7 +472,7 @@ public class AspNetCoreServerCodegen extends AbstractCSharpCodegen {
         } else {
             this.aspNetCoreVersion = optionValue;
         }
-        if (!this.aspNetCoreVersion.equals("2.0") && !this.aspNetCoreVersion.equals("2.1") && !this.aspNetCoreVersion.equals("2.2") && !this.aspNetCoreVersion.equals("3.0")) {
+        if (!this.aspNetCoreVersion.equals("2.0") && !this.aspNetCoreVersion.equals("2.1") && !this.aspNetCoreVersion.equals("2.2") && !this.aspNetCoreVersion.equals("3.0") && !this.aspNetCoreVersion.equals("3.1") && !this.aspNetCoreVersion.equals(MINIMAL_API_VERSION)) {
             LOGGER.error("version '" + this.aspNetCoreVersion + "' is not supported, switching to default version: '" + DEFAULT_ASP_NET_CORE_VERSION + "'");
             this.aspNetCoreVersion = DEFAULT_ASP_NET_CORE_VERSION;
         }
@@ -38,6 +38,16 @@ public class CSharpClientCodegen extends AbstractCSharpCodegen {
     private static final String NETSTANDARD = "v5.0";
     private static final String UWP = "uwp";
 
+    public static final String RESTSHARP_LIBRARY = "restsharp";
+    public static final String HTTP_CLIENT_LIBRARY = "httpclient";
+    // nuget identifier of the framework targeted by the httpclient library
+    private static final String HTTP_CLIENT_TARGET_FRAMEWORK = "net8.0";
+
+    public static final String STREAM_LIST_RESPONSE_EXT_NAME = "x-is-stream-list-response";
+    public static final String STREAM_ITEM_TYPE_EXT_NAME = "x-stream-item-type";
+    public static final String STREAM_RESPONSE_EXT_NAME = "x-is-stream-response";
+    public static final String ACCEPT_HEADER_EXT_NAME = "x-accept-header";
+
     // Defines the sdk option for targeted frameworks, which differs from targetFramework and targetFrameworkNuget
     private static final String MCS_NET_VERSION_KEY = "x-mcs-sdk";
 
@@ -177,6 +187,15 @@ public class CSharpClientCodegen extends AbstractCSharpCodegen {
                 CodegenConstants.VALIDATABLE_DESC,
                 this.validatable);
 
+        supportedLibraries.put(RESTSHARP_LIBRARY, "RestSharp client with Newtonsoft.Json serialization.");
+        supportedLibraries.put(HTTP_CLIENT_LIBRARY, "Async-first .NET 8 client on a shared, pooled HttpClient, serializing with System.Text.Json source-generated metadata.");
+        setLibrary(RESTSHARP_LIBRARY);
+
+        CliOption library = new CliOption(CodegenConstants.LIBRARY, "library template (sub-template) to use");
+        library.setDefault(RESTSHARP_LIBRARY);
+        library.setEnum(supportedLibraries);
+        cliOptions.add(library);
+
         regexModifiers = new HashMap<Character, String>();
         regexModifiers.put('i', "IgnoreCase");
         regexModifiers.put('m', "Multiline");
@@ -221,6 +240,11 @@ public class CSharpClientCodegen extends AbstractCSharpCodegen {
             additionalProperties.put(CodegenConstants.VALIDATABLE, validatable);
         }
 
+        if (isHttpClientLibrary() && additionalProperties.containsKey(CodegenConstants.DOTNET_FRAMEWORK)) {
+            LOGGER.warn("Library " + HTTP_CLIENT_LIBRARY + " targets .NET 8, option " + CodegenConstants.DOTNET_FRAMEWORK + " will be ignored.");
+            additionalProperties.remove(CodegenConstants.DOTNET_FRAMEWORK);
+        }
+
         if (additionalProperties.containsKey(CodegenConstants.DOTNET_FRAMEWORK)) {
             setTargetFramework((String) additionalProperties.get(CodegenConstants.DOTNET_FRAMEWORK));
         } else {
@@ -279,6 +303,20 @@ public class CSharpClientCodegen extends AbstractCSharpCodegen {
             setSupportsAsync(Boolean.TRUE);
         }
 
+        if (isHttpClientLibrary()) {
+            // SocketsHttpHandler and System.Text.Json source generation need .NET 8, the csproj is always SDK-style
+            additionalProperties.remove(MCS_NET_VERSION_KEY);
+            setTargetFrameworkNuget(HTTP_CLIENT_TARGET_FRAMEWORK);
+            this.netCoreProjectFileFlag = true;
+            additionalProperties.put(CodegenConstants.NETCORE_PROJECT_FILE, true);
+            if (additionalProperties.containsKey(CodegenConstants.GENERATE_PROPERTY_CHANGED)) {
+                LOGGER.warn(CodegenConstants.GENERATE_PROPERTY_CHANGED + " is not supported by library " + HTTP_CLIENT_LIBRARY + ".");
+                additionalProperties.remove(CodegenConstants.GENERATE_PROPERTY_CHANGED);
+            }
+            // the generated tests are written against the RestSharp client
+            excludeTests = true;
+        }
+
         if (additionalProperties.containsKey(CodegenConstants.GENERATE_PROPERTY_CHANGED)) {
             if (NET35.equals(targetFramework)) {
                 LOGGER.warn(CodegenConstants.GENERATE_PROPERTY_CHANGED + " is only supported by generated code for .NET 4+.");
@@ -354,6 +392,14 @@ public class CSharpClientCodegen extends AbstractCSharpCodegen {
         binRelativePath += "vendor";
         additionalProperties.put("binRelativePath", binRelativePath);
 
+        additionalProperties.put("apiDocPath", apiDocPath);
+        additionalProperties.put("modelDocPath", modelDocPath);
+
+        if (isHttpClientLibrary()) {
+            addHttpClientSupportingFiles(packageFolder, clientPackageDir);
+            return;
+        }
+
         supportingFiles.add(new SupportingFile("IApiAccessor.mustache",
                 clientPackageDir, "IApiAccessor.cs"));
         supportingFiles.add(new SupportingFile("Configuration.mustache",
@@ -444,9 +490,28 @@ public class CSharpClientCodegen extends AbstractCSharpCodegen {
                 }
             }
         }
+    }
 
-        additionalProperties.put("apiDocPath", apiDocPath);
-        additionalProperties.put("modelDocPath", modelDocPath);
+    private void addHttpClientSupportingFiles(String packageFolder, String clientPackageDir) {
+        supportingFiles.add(new SupportingFile("Configuration.mustache",
+                clientPackageDir, "Configuration.cs"));
+        supportingFiles.add(new SupportingFile("ApiClient.mustache",
+                clientPackageDir, "ApiClient.cs"));
+        supportingFiles.add(new SupportingFile("ApiException.mustache",
+                clientPackageDir, "ApiException.cs"));
+        supportingFiles.add(new SupportingFile("ApiResponse.mustache",
+                clientPackageDir, "ApiResponse.cs"));
+        supportingFiles.add(new SupportingFile("ApiJsonContext.mustache",
+                clientPackageDir, "ApiJsonContext.cs"));
+
+        supportingFiles.add(new SupportingFile("README.mustache", "", "README.md"));
+        supportingFiles.add(new SupportingFile("git_push.sh.mustache", "", "git_push.sh"));
+        supportingFiles.add(new SupportingFile("gitignore.mustache", "", ".gitignore"));
+
+        if (optionalProjectFileFlag) {
+            supportingFiles.add(new SupportingFile("Solution.mustache", "", packageName + ".sln"));
+            supportingFiles.add(new SupportingFile("netcore_project.mustache", packageFolder, packageName + ".csproj"));
+        }
     }
 
     public void setModelPropertyNaming(String naming) {
@@ -484,6 +549,9 @@ public class CSharpClientCodegen extends AbstractCSharpCodegen {
                             }
                         }
                     }
+                    if (isHttpClientLibrary()) {
+                        postProcessHttpClientOperation(operation);
+                    }
                 }
             }
         }
@@ -491,6 +559,72 @@ public class CSharpClientCodegen extends AbstractCSharpCodegen {
         return objs;
     }
 
+    /**
+     * Registers the body types of the operation for source-generated serialization, flags list responses which can be
+     * read element by element, and selects the Accept header once instead of on every call.
+     *
+     * @param operation operation of the httpclient library
+     */
+    private void postProcessHttpClientOperation(CodegenOperation operation) {
+        if (operation.returnType != null) {
+            if (isStreamType(operation.returnType)) {
+                operation.getVendorExtensions().put(STREAM_RESPONSE_EXT_NAME, Boolean.TRUE);
+            } else {
+                addJsonSerializableType(operation.returnType);
+                final int genericStart = operation.returnType.indexOf('<');
+                if (getBooleanValue(operation, CodegenConstants.IS_LIST_CONTAINER_EXT_NAME) && genericStart > 0) {
+                    final String itemType = operation.returnType.substring(genericStart + 1, operation.returnType.length() - 1);
+                    addJsonSerializableType(itemType);
+                    operation.getVendorExtensions().put(STREAM_LIST_RESPONSE_EXT_NAME, Boolean.TRUE);
+                    operation.getVendorExtensions().put(STREAM_ITEM_TYPE_EXT_NAME, itemType);
+                }
+            }
+        }
+        if (operation.bodyParam != null) {
+            addJsonSerializableType(operation.bodyParam.dataType);
+        }
+        if (operation.produces != null && !operation.produces.isEmpty()) {
+            final List<String> mediaTypes = new ArrayList<>();
+            for (Map<String, String> produces : operation.produces) {
+                mediaTypes.add(produces.get("mediaType"));
+            }
+            final String accept = mediaTypes.contains(DEFAULT_CONTENT_TYPE) ? DEFAULT_CONTENT_TYPE : String.join(", ", mediaTypes);
+            operation.getVendorExtensions().put(ACCEPT_HEADER_EXT_NAME, accept);
+        }
+    }
+
+    @Override
+    protected void addJsonSerializableType(String type) {
+        if (!"byte[]".equals(type)) {
+            super.addJsonSerializableType(type);
+        }
+    }
+
+    private static boolean isStreamType(String type) {
+        return "System.IO.Stream".equals(type);
+    }
+
+    @Override
+    public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
+        final Map<String, Object> processed = super.postProcessAllModels(objs);
+        if (isHttpClientLibrary()) {
+            addJsonSerializableModels(processed);
+        }
+        return processed;
+    }
+
+    @Override
+    public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+        if (isHttpClientLibrary()) {
+            putJsonSerializableTypes(objs);
+        }
+        return super.postProcessSupportingFileData(objs);
+    }
+
+    private boolean isHttpClientLibrary() {
+        return HTTP_CLIENT_LIBRARY.equals(library);
+    }
+
     @Override
     public CodegenType getTag() {
         return CodegenType.CLIENT;
@@ -11,6 +11,8 @@ import io.swagger.codegen.v3.ISchemaHandler;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.codegen.v3.generators.SchemaHandler;
 import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
+import io.swagger.codegen.v3.utils.ModelUtils;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -25,6 +27,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -38,8 +42,30 @@ public abstract class AbstractGoCodegen extends DefaultCodegenConfig {
 
     protected static Logger LOGGER = LoggerFactory.getLogger(AbstractGoCodegen.class);
 
+    public static final String JSON_CODECS = "jsonCodecs";
+
+    // Go types encoded and decoded by the generated helpers (json_codec.go, binding.go), by the suffix of their names
+    protected static final Map<String, String> SCALAR_TYPES;
+
+    static {
+        final Map<String, String> scalarTypes = new HashMap<>();
+        scalarTypes.put("string", "String");
+        scalarTypes.put("bool", "Bool");
+        scalarTypes.put("int32", "Int32");
+        scalarTypes.put("int64", "Int64");
+        scalarTypes.put("float32", "Float32");
+        scalarTypes.put("float64", "Float64");
+        scalarTypes.put("time.Time", "Time");
+        SCALAR_TYPES = Collections.unmodifiableMap(scalarTypes);
+    }
+
+    // nesting depth after which the JSON examples of the codec tests stop following model references
+    private static final int JSON_EXAMPLE_MAX_DEPTH = 3;
+
     protected boolean withXml = false;
 
+    protected boolean jsonCodecs = false;
+
     protected String packageName = "swagger";
 
     public AbstractGoCodegen() {
@@ -105,6 +131,17 @@ public abstract class AbstractGoCodegen extends DefaultCodegenConfig {
 
         cliOptions.add(new CliOption(CodegenConstants.HIDE_GENERATION_TIMESTAMP, CodegenConstants.HIDE_GENERATION_TIMESTAMP_DESC)
                 .defaultValue(Boolean.TRUE.toString()));
+
+        cliOptions.add(CliOption.newBoolean(JSON_CODECS, "Generate MarshalJSON and UnmarshalJSON methods which encode and decode the models without reflection, with their benchmarks"));
+    }
+
+    @Override
+    public void processOpts() {
+        super.processOpts();
+
+        if (additionalProperties.containsKey(JSON_CODECS)) {
+            setJsonCodecs(convertPropertyToBooleanAndWriteBack(JSON_CODECS));
+        }
     }
 
     /**
@@ -486,7 +523,7 @@ public abstract class AbstractGoCodegen extends DefaultCodegenConfig {
 
     @Override
     public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+        return TextEscaper.BLOCK_COMMENT.escape(input);
     }
 
     public Map<String, String> createMapping(String key, String value) {
@@ -560,6 +597,212 @@ public abstract class AbstractGoCodegen extends DefaultCodegenConfig {
         this.withXml = withXml;
     }
 
+    public void setJsonCodecs(boolean jsonCodecs) {
+        this.jsonCodecs = jsonCodecs;
+    }
+
+    @Override
+    public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
+        final Map<String, Object> processed = super.postProcessAllModels(objs);
+        if (!jsonCodecs) {
+            return processed;
+        }
+        final Map<String, CodegenModel> models = new HashMap<>();
+        for (String name : processed.keySet()) {
+            final CodegenModel model = ModelUtils.getModelByName(name, processed);
+            if (model != null) {
+                models.put(model.classname, model);
+            }
+        }
+        for (CodegenModel model : models.values()) {
+            if (hasJsonCodec(model)) {
+                model.getVendorExtensions().put("x-has-json-codec", Boolean.TRUE);
+            }
+        }
+        for (CodegenModel model : models.values()) {
+            if (hasJsonCodec(model)) {
+                for (CodegenProperty property : model.vars) {
+                    setJsonCodecKind(property, models);
+                }
+                model.getVendorExtensions().put("x-json-buffer-size", 64 + 32 * model.vars.size());
+                model.getVendorExtensions().put("x-json-example", toGoStringLiteral(toJsonExample(model, models, 0)));
+            }
+        }
+        return processed;
+    }
+
+    private boolean hasJsonCodec(CodegenModel model) {
+        return !getBooleanValue(model, CodegenConstants.IS_ENUM_EXT_NAME) && !model.getIsComposedModel() && !getBooleanValue(model, CodegenConstants.IS_ALIAS_EXT_NAME);
+    }
+
+    /**
+     * Tells the codec templates how to encode and decode the property: as a scalar, a model, a list or a map of those,
+     * or as a raw value left to encoding/json for the types the codec helpers do not handle.
+     */
+    private void setJsonCodecKind(CodegenProperty property, Map<String, CodegenModel> models) {
+        final Map<String, Object> extensions = property.getVendorExtensions();
+        final String field = "m." + property.name;
+        extensions.put("x-json-name", toGoStringLiteral(property.baseName));
+        extensions.put("x-json-key", toGoStringLiteral(toJsonString(property.baseName) + ":"));
+        final boolean isPointer = !property.getIsEnum() && !property.getIsPrimitiveType() && !property.getIsContainer()
+                && !getBooleanValue(property, CodegenConstants.IS_DATE_TIME_EXT_NAME);
+
+        if (property.getIsListContainer() || property.getIsMapContainer()) {
+            final CodegenProperty items = property.items;
+            final String itemType = items == null || items.getIsContainer() ? null : items.datatype;
+            final CodegenModel itemModel = itemType == null ? null : models.get(itemType);
+            if (itemModel != null && getBooleanValue(itemModel, "x-has-json-codec")) {
+                extensions.put("x-json-item-model", itemType);
+            } else if (SCALAR_TYPES.containsKey(itemType)) {
+                extensions.put("x-json-item-scalar", SCALAR_TYPES.get(itemType));
+                extensions.put("x-json-item-go-type", itemType);
+                extensions.put("x-json-item-value", "v");
+                extensions.put("x-json-item-decoded", "v");
+            } else if (isStringEnum(itemModel)) {
+                extensions.put("x-json-item-scalar", "String");
+                extensions.put("x-json-item-go-type", "string");
+                extensions.put("x-json-item-value", "string(v)");
+                extensions.put("x-json-item-decoded", itemType + "(v)");
+            } else {
+                extensions.put("x-json-is-raw", Boolean.TRUE);
+                if (!property.required) {
+                    extensions.put("x-json-omit", "len(" + field + ") != 0");
+                }
+                return;
+            }
+            extensions.put(property.getIsListContainer() ? "x-json-is-list" : "x-json-is-map", Boolean.TRUE);
+            extensions.put("x-json-omit", "len(" + field + ") != 0");
+        } else if (!isPointer && SCALAR_TYPES.containsKey(property.datatype)) {
+            final String scalar = SCALAR_TYPES.get(property.datatype);
+            extensions.put("x-json-scalar", scalar);
+            extensions.put("x-json-value", field);
+            if ("String".equals(scalar)) {
+                extensions.put("x-json-omit", field + " != \"\"");
+            } else if ("Bool".equals(scalar)) {
+                extensions.put("x-json-omit", field);
+            } else if (!"Time".equals(scalar)) {
+                extensions.put("x-json-omit", field + " != 0");
+            }
+        } else if (isPointer && models.containsKey(property.datatype) && getBooleanValue(models.get(property.datatype), "x-has-json-codec")) {
+            extensions.put("x-json-is-model", Boolean.TRUE);
+            extensions.put("x-json-omit", field + " != nil");
+        } else if (isPointer && isStringEnum(models.get(property.datatype))) {
+            extensions.put("x-json-scalar", "String");
+            extensions.put("x-json-go-type", "string");
+            extensions.put("x-json-cast", property.datatype);
+            extensions.put("x-json-pointer", Boolean.TRUE);
+            extensions.put("x-json-value", "string(*" + field + ")");
+            extensions.put("x-json-omit", field + " != nil");
+        } else {
+            extensions.put("x-json-is-raw", Boolean.TRUE);
+            if (isPointer || "interface{}".equals(property.datatype)) {
+                extensions.put("x-json-omit", field + " != nil");
+            }
+        }
+        if (property.required) {
+            extensions.remove("x-json-omit");
+        }
+    }
+
+    private static boolean isStringEnum(CodegenModel model) {
+        return model != null && getBooleanValue(model, CodegenConstants.IS_ENUM_EXT_NAME) && "string".equals(model.dataType);
+    }
+
+    /**
+     * Builds a JSON document with a value for every property the codec handles, used by the generated round trip tests
+     * and benchmarks. Returns null for a value which cannot be built, e.g. a model nested too deep.
+     */
+    private String toJsonExample(CodegenModel model, Map<String, CodegenModel> models, int depth) {
+        if (depth > JSON_EXAMPLE_MAX_DEPTH) {
+            return null;
+        }
+        final StringBuilder json = new StringBuilder("{");
+        for (CodegenProperty property : model.vars) {
+            String value = toJsonExample(property, models, depth);
+            if (value == null) {
+                if (!property.required) {
+                    // an omitted optional value is not written back either
+                    continue;
+                }
+                value = "null";
+            }
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(toJsonString(property.baseName)).append(':').append(value);
+        }
+        return json.append('}').toString();
+    }
+
+    private String toJsonExample(CodegenProperty property, Map<String, CodegenModel> models, int depth) {
+        final Map<String, Object> extensions = property.getVendorExtensions();
+        if (extensions.containsKey("x-json-scalar")) {
+            final CodegenModel enumModel = models.get(property.datatype);
+            return toJsonExample((String) extensions.get("x-json-scalar"), enumModel != null ? enumModel.allowableValues : property.allowableValues);
+        }
+        if (getBooleanValue(property, "x-json-is-model")) {
+            return toJsonExample(models.get(property.datatype), models, depth + 1);
+        }
+        if (!getBooleanValue(property, "x-json-is-list") && !getBooleanValue(property, "x-json-is-map")) {
+            return null;
+        }
+        final String item;
+        if (extensions.containsKey("x-json-item-model")) {
+            item = toJsonExample(models.get(extensions.get("x-json-item-model")), models, depth + 1);
+        } else {
+            final CodegenModel enumModel = models.get(property.items.datatype);
+            item = toJsonExample((String) extensions.get("x-json-item-scalar"), enumModel != null ? enumModel.allowableValues : property.items.allowableValues);
+        }
+        if (item == null) {
+            return null;
+        }
+        return getBooleanValue(property, "x-json-is-list") ? "[" + item + "]" : "{\"key\":" + item + "}";
+    }
+
+    private static String toJsonExample(String scalar, Map<String, Object> allowableValues) {
+        if ("String".equals(scalar) && allowableValues != null && allowableValues.get("values") instanceof Collection) {
+            final Collection<?> values = (Collection<?>) allowableValues.get("values");
+            if (!values.isEmpty()) {
+                return toJsonString(String.valueOf(values.iterator().next()));
+            }
+        }
+        switch (scalar) {
+            case "Bool":
+                return "true";
+            case "Int32":
+            case "Int64":
+                return "1";
+            case "Float32":
+            case "Float64":
+                return "1.5";
+            case "Time":
+                return "\"2006-01-02T15:04:05Z\"";
+            default:
+                return "\"string\"";
+        }
+    }
+
+    private static String toJsonString(String value) {
+        final StringBuilder json = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20 || c == '<' || c == '>' || c == '&') {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"').toString();
+    }
+
+    protected static String toGoStringLiteral(String value) {
+        if (value.indexOf('`') < 0) {
+            return "`" + value + "`";
+        }
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
     @Override
     public CodegenModel fromModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
         final CodegenModel codegenModel = super.fromModel(name, schema, allDefinitions);
@@ -65,6 +65,10 @@ public class GoClientCodegen extends AbstractGoCodegen {
         this.supportingFiles.add(new SupportingFile("client.mustache", "", "client.go"));
         this.supportingFiles.add(new SupportingFile("response.mustache", "", "response.go"));
         this.supportingFiles.add(new SupportingFile(".travis.yml", "", ".travis.yml"));
+        if (this.jsonCodecs) {
+            this.supportingFiles.add(new SupportingFile("json_codec.mustache", "", "json_codec.go"));
+            this.supportingFiles.add(new SupportingFile("json_codec_test.mustache", "", "json_codec_test.go"));
+        }
         if (this.additionalProperties.containsKey("withXml")) {
             this.setWithXml(Boolean.parseBoolean(this.additionalProperties.get("withXml").toString()));
             if (this.withXml) {
@@ -1,6 +1,9 @@
 package io.swagger.codegen.v3.generators.go;
 
+import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenOperation;
+import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
@@ -9,16 +12,33 @@ import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 
+import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
+
 public class GoServerCodegen extends AbstractGoCodegen {
 
+    public static final String REQUEST_BINDERS = "requestBinders";
+    public static final String HTTP_SERVE_MUX = "httpServeMux";
+
+    private static final Pattern PATH_PARAMETER = Pattern.compile("\\{([^}]+)\\}");
+
+    // characters besides letters and digits which net/http accepts in the header names it canonicalizes
+    private static final String HEADER_TOKEN_CHARACTERS = "!#$%&'*+-.^_`|~";
+
     protected String apiVersion = "1.0.0";
     protected int serverPort = 8080;
     protected String projectName = "swagger-server";
     protected String apiPath = "go";
+    protected boolean requestBinders = false;
+    protected boolean httpServeMux = false;
 
     public GoServerCodegen() {
         super();
@@ -62,6 +82,9 @@ public class GoServerCodegen extends AbstractGoCodegen {
                 "continue", "for", "import", "return", "var", "error", "nil")
                 // Added "error" as it's used so frequently that it may as well be a keyword
         );
+
+        cliOptions.add(CliOption.newBoolean(REQUEST_BINDERS, "Generate typed binders which decode the path, query, header and body parameters of each operation into pooled structs"));
+        cliOptions.add(CliOption.newBoolean(HTTP_SERVE_MUX, "Route the operations with the pattern matching net/http ServeMux of Go 1.22 instead of gorilla/mux"));
     }
 
     @Override
@@ -80,6 +103,13 @@ public class GoServerCodegen extends AbstractGoCodegen {
             setPackageName("swagger");
         }
 
+        if (additionalProperties.containsKey(REQUEST_BINDERS)) {
+            setRequestBinders(convertPropertyToBooleanAndWriteBack(REQUEST_BINDERS));
+        }
+        if (additionalProperties.containsKey(HTTP_SERVE_MUX)) {
+            setHttpServeMux(convertPropertyToBooleanAndWriteBack(HTTP_SERVE_MUX));
+        }
+
         /*
          * Additional Properties.  These values can be passed to the templates and
          * are available in models, apis, and supporting files
@@ -102,6 +132,14 @@ public class GoServerCodegen extends AbstractGoCodegen {
         supportingFiles.add(new SupportingFile("main.mustache", "", "main.go"));
         supportingFiles.add(new SupportingFile("routers.mustache", apiPath, "routers.go"));
         supportingFiles.add(new SupportingFile("logger.mustache", apiPath, "logger.go"));
+        if (jsonCodecs) {
+            supportingFiles.add(new SupportingFile("json_codec.mustache", apiPath, "json_codec.go"));
+            supportingFiles.add(new SupportingFile("json_codec_test.mustache", apiPath, "json_codec_test.go"));
+        }
+        if (requestBinders) {
+            apiTemplateFiles.put("binders.mustache", "_binders.go");
+            supportingFiles.add(new SupportingFile("binding.mustache", apiPath, "binding.go"));
+        }
         writeOptional(outputFolder, new SupportingFile("README.mustache", apiPath, "README.md"));
     }
 
@@ -110,6 +148,179 @@ public class GoServerCodegen extends AbstractGoCodegen {
         return apiPath;
     }
 
+    public void setRequestBinders(boolean requestBinders) {
+        this.requestBinders = requestBinders;
+    }
+
+    public void setHttpServeMux(boolean httpServeMux) {
+        this.httpServeMux = httpServeMux;
+    }
+
+    @Override
+    public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
+        objs = super.postProcessOperations(objs);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> objectMap = (Map<String, Object>) objs.get("operations");
+        @SuppressWarnings("unchecked")
+        List<CodegenOperation> operations = (List<CodegenOperation>) objectMap.get("operation");
+
+        boolean hasRequestBinders = false;
+        boolean useTime = false;
+        boolean useMux = false;
+        for (CodegenOperation operation : operations) {
+            operation.getVendorExtensions().put("x-serve-mux-path", toServeMuxPath(operation.path));
+            if (!requestBinders) {
+                continue;
+            }
+            final List<CodegenParameter> boundParams = new ArrayList<>();
+            for (CodegenParameter parameter : operation.pathParams) {
+                if (setParameterBinding(parameter, "path")) {
+                    boundParams.add(parameter);
+                    useMux = useMux || !httpServeMux;
+                    operation.getVendorExtensions().put("x-bind-mux-vars", !httpServeMux);
+                }
+            }
+            for (CodegenParameter parameter : operation.queryParams) {
+                if (setParameterBinding(parameter, "query")) {
+                    boundParams.add(parameter);
+                }
+            }
+            for (CodegenParameter parameter : operation.headerParams) {
+                if (setParameterBinding(parameter, "header")) {
+                    boundParams.add(parameter);
+                }
+            }
+            final CodegenParameter body = operation.bodyParam;
+            if (body != null && consumesJson(operation) && !getBooleanValue(body, CodegenConstants.IS_BINARY_EXT_NAME)
+                    && !getBooleanValue(body, CodegenConstants.IS_FILE_EXT_NAME)) {
+                body.getVendorExtensions().put("x-bind-field", toExportedName(body));
+                body.getVendorExtensions().put("x-bind-from-body", Boolean.TRUE);
+                body.getVendorExtensions().put("x-bind-reuse", body.dataType.startsWith("[]"));
+                boundParams.add(body);
+            }
+            if (boundParams.isEmpty()) {
+                continue;
+            }
+            for (CodegenParameter parameter : boundParams) {
+                useTime = useTime || parameter.dataType.contains("time.Time");
+            }
+            operation.getVendorExtensions().put("x-has-request-binder", Boolean.TRUE);
+            operation.getVendorExtensions().put("x-bound-params", boundParams);
+            operation.getVendorExtensions().put("x-params-pool", camelize(operation.nickname, true) + "ParamsPool");
+            hasRequestBinders = true;
+        }
+        objs.put("hasRequestBinders", hasRequestBinders);
+        objs.put("bindersUseTime", useTime);
+        objs.put("bindersUseMux", useMux);
+        return objs;
+    }
+
+    /**
+     * Sets the Go expressions which read the raw value of a path, query or header parameter for its binder, and the
+     * helper parsing it. Returns false when the type of the parameter has no parse helper, in which case it is not bound.
+     */
+    private boolean setParameterBinding(CodegenParameter parameter, String in) {
+        final Map<String, Object> extensions = parameter.getVendorExtensions();
+        final boolean isList = getBooleanValue(parameter, CodegenConstants.IS_LIST_CONTAINER_EXT_NAME);
+        final String type = isList ? (parameter.items == null ? null : parameter.items.datatype) : parameter.dataType;
+        if (!SCALAR_TYPES.containsKey(type)) {
+            return false;
+        }
+        final String key = toGoQuoted(parameter.baseName);
+        final String value;
+        if ("path".equals(in)) {
+            value = httpServeMux ? "r.PathValue(" + toGoQuoted(toPathWildcard(parameter.baseName)) + ")" : "vars[" + key + "]";
+        } else if ("header".equals(in)) {
+            value = "r.Header.Get(" + toGoQuoted(toCanonicalHeaderKey(parameter.baseName)) + ")";
+        } else {
+            value = null;
+        }
+        if (isList) {
+            final String separator;
+            if (!"query".equals(in) || "csv".equals(parameter.collectionFormat)) {
+                separator = "','";
+            } else if ("pipe".equals(parameter.collectionFormat)) {
+                separator = "'|'";
+            } else if ("space".equals(parameter.collectionFormat)) {
+                separator = "' '";
+            } else {
+                separator = "0";
+            }
+            extensions.put("x-bind-values", value == null
+                    ? "appendQueryValues(p.values[:0], r.URL.RawQuery, " + key + ", " + separator + ")"
+                    : "appendSplitValues(p.values[:0], " + value + ", " + separator + ")");
+            extensions.put("x-bind-reuse", Boolean.TRUE);
+        } else if (value == null) {
+            extensions.put("x-bind-source", "queryValue(r.URL.RawQuery, " + key + ")");
+        } else {
+            extensions.put("x-bind-source", "presentValue(" + value + ")");
+        }
+        extensions.put("x-bind-field", toExportedName(parameter));
+        extensions.put("x-bind-parse", SCALAR_TYPES.get(type));
+        extensions.put("x-bind-in", in);
+        return true;
+    }
+
+    private static boolean consumesJson(CodegenOperation operation) {
+        if (operation.consumes == null || operation.consumes.isEmpty()) {
+            return true;
+        }
+        for (Map<String, String> consume : operation.consumes) {
+            final String mediaType = consume.get("mediaType");
+            if (mediaType != null && mediaType.toLowerCase().contains("json")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toExportedName(CodegenParameter parameter) {
+        final Object exportName = parameter.getVendorExtensions().get("x-exportParamName");
+        if (exportName != null) {
+            return exportName.toString();
+        }
+        return Character.toUpperCase(parameter.paramName.charAt(0)) + parameter.paramName.substring(1);
+    }
+
+    /**
+     * Rewrites the parameters of a path template as ServeMux wildcards, which must be Go identifiers.
+     */
+    private static String toServeMuxPath(String path) {
+        final Matcher matcher = PATH_PARAMETER.matcher(path);
+        final StringBuffer muxPath = new StringBuffer();
+        while (matcher.find()) {
+            matcher.appendReplacement(muxPath, Matcher.quoteReplacement("{" + toPathWildcard(matcher.group(1)) + "}"));
+        }
+        matcher.appendTail(muxPath);
+        return muxPath.toString();
+    }
+
+    private static String toPathWildcard(String name) {
+        final String wildcard = name.replaceAll("[^A-Za-z0-9_]", "_");
+        return wildcard.isEmpty() || Character.isDigit(wildcard.charAt(0)) ? "_" + wildcard : wildcard;
+    }
+
+    /**
+     * Canonicalizes a header name like net/http does, so that the binder looks it up without converting it per request.
+     */
+    private static String toCanonicalHeaderKey(String name) {
+        final StringBuilder key = new StringBuilder(name.length());
+        boolean upper = true;
+        for (char c : name.toCharArray()) {
+            final boolean isAlphanumeric = c < 0x80 && Character.isLetterOrDigit(c);
+            if (!isAlphanumeric && HEADER_TOKEN_CHARACTERS.indexOf(c) < 0) {
+                return name;
+            }
+            key.append(upper ? Character.toUpperCase(c) : Character.toLowerCase(c));
+            upper = c == '-';
+        }
+        return key.toString();
+    }
+
+    private static String toGoQuoted(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
     /**
      * Configures the type of generator.
      *
@@ -24,7 +24,7 @@ import java.io.IOException;
  */
 public class IndentedLambda implements Lambda {
     private final int prefixSpaceCount;
-    private int spaceCode;
+    private final int spaceCode;
 
     /**
      * Constructs a new instance of {@link io.swagger.codegen.mustache.IndentedLambda}, with an indent count of 4 spaces
@@ -18,7 +18,7 @@ import java.io.IOException;
  * </pre>
  */
 public class TitlecaseLambda implements Lambda {
-    private String delimiter;
+    private final String delimiter;
 
     /**
      * Constructs a new instance of {@link io.swagger.codegen.mustache.TitlecaseLambda}, which will convert all text
@@ -5,6 +5,7 @@ import static io.swagger.codegen.v3.CodegenConstants.IS_ENUM_EXT_NAME;
 import static io.swagger.codegen.v3.generators.features.NotNullAnnotationFeatures.NOT_NULL_JACKSON_ANNOTATION;
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.github.jknack.handlebars.Handlebars;
 import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenArgument;
@@ -13,14 +14,21 @@ import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
+import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.codegen.v3.generators.features.NotNullAnnotationFeatures;
 import io.swagger.codegen.v3.generators.handlebars.java.JavaHelper;
+import io.swagger.codegen.v3.generators.util.CopyOnWriteSet;
+import io.swagger.codegen.v3.generators.util.OpenAPIVisitor;
+import io.swagger.codegen.v3.generators.util.OpenAPIWalker;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.IntegerSchema;
 import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.MediaType;
@@ -32,15 +40,21 @@ import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -49,6 +63,19 @@ import org.slf4j.LoggerFactory;
 
 public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
     private static Logger LOGGER = LoggerFactory.getLogger(AbstractJavaCodegen.class);
+    private static final JavaHelper JAVA_HELPER = new JavaHelper();
+    private static final Set<String> LANGUAGE_SPECIFIC_PRIMITIVES = Collections.unmodifiableSet(new HashSet<String>(
+            Arrays.asList(
+                    "String",
+                    "boolean",
+                    "Boolean",
+                    "Double",
+                    "Integer",
+                    "Long",
+                    "Float",
+                    "Object",
+                    "byte[]")
+    ));
     public static final String FULL_JAVA_UTIL = "fullJavaUtil";
     public static final String DEFAULT_LIBRARY = "<default>";
     public static final String DATE_LIBRARY = "dateLibrary";
@@ -58,11 +85,33 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
     public static final String SUPPORT_JAVA6 = "supportJava6";
     public static final String ERROR_ON_UNKNOWN_ENUM = "errorOnUnknownEnum";
     public static final String CHECK_DUPLICATED_MODEL_NAME = "checkDuplicatedModelName";
+    public static final String STREAM_LIST_RESPONSES = "streamListResponses";
+    public static final String STREAM_LIST_RESPONSE_EXT_NAME = "x-is-stream-list-response";
 
     public static final String WIREMOCK_OPTION = "wiremock";
 
     public static final String JAKARTA = "jakarta";
 
+    public static final String VIRTUAL_THREADS = "virtualThreads";
+    public static final String JAVA21 = "java21";
+
+    public static final String NATIVE_IMAGE = "nativeImage";
+    public static final String NATIVE_IMAGE_FOLDER = "META-INF" + File.separator + "native-image";
+
+    public static final String JACKSON_CODECS = "jacksonCodecs";
+    private static final Pattern JSON_CODEC_MAP_PARENT = Pattern.compile("(?:java\\.util\\.)?HashMap<String, (.+)>");
+    private static final Pattern JAVA_IDENTIFIER = Pattern.compile("[A-Za-z_$][\\w$]*");
+    private static final Map<String, String> JSON_CODEC_WRITE_METHODS = new HashMap<>();
+
+    static {
+        JSON_CODEC_WRITE_METHODS.put("String", "writeStringField");
+        JSON_CODEC_WRITE_METHODS.put("Boolean", "writeBooleanField");
+        JSON_CODEC_WRITE_METHODS.put("Integer", "writeNumberField");
+        JSON_CODEC_WRITE_METHODS.put("Long", "writeNumberField");
+        JSON_CODEC_WRITE_METHODS.put("Float", "writeNumberField");
+        JSON_CODEC_WRITE_METHODS.put("Double", "writeNumberField");
+    }
+
     protected String dateLibrary = "threetenbp";
     protected boolean java8Mode = false;
     protected boolean java11Mode = false;
@@ -95,6 +144,10 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
     protected String modelDocPath = "docs/";
     protected boolean supportJava6= false;
     protected boolean jakarta = false;
+    protected boolean streamListResponses = false;
+    protected boolean virtualThreads = false;
+    protected boolean nativeImage = false;
+    protected boolean jacksonCodecs = false;
     private NotNullAnnotationFeatures notNullOption;
 
     public AbstractJavaCodegen() {
@@ -121,18 +174,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
                         "native", "super", "while", "null")
         );
 
-        languageSpecificPrimitives = new HashSet<String>(
-                Arrays.asList(
-                        "String",
-                        "boolean",
-                        "Boolean",
-                        "Double",
-                        "Integer",
-                        "Long",
-                        "Float",
-                        "Object",
-                        "byte[]")
-        );
+        languageSpecificPrimitives = new CopyOnWriteSet<>(LANGUAGE_SPECIFIC_PRIMITIVES);
         instantiationTypes.put("array", "ArrayList");
         instantiationTypes.put("map", "HashMap");
         typeMapping.put("date", "Date");
@@ -197,6 +239,8 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
 
         cliOptions.add(CliOption.newBoolean(WIREMOCK_OPTION, "Use wiremock to generate endpoint calls to mock on generated tests."));
 
+        cliOptions.add(CliOption.newBoolean(NATIVE_IMAGE, "Generate the GraalVM native-image reflection and resource metadata of the generated models and apis"));
+
         cliOptions.add(CliOption.newBoolean(JAKARTA, "Use Jakarta EE (package jakarta.*) instead of Java EE (javax.*)"));
 
         CliOption jeeSpec = CliOption.newBoolean(JAKARTA, "Use Jakarta EE (package jakarta.*) instead of Java EE (javax.*)");
@@ -376,6 +420,10 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
             additionalProperties.put(WIREMOCK_OPTION, useWireMock);
         }
 
+        if (additionalProperties.containsKey(NATIVE_IMAGE)) {
+            this.setNativeImage(convertPropertyToBooleanAndWriteBack(NATIVE_IMAGE));
+        }
+
         if (this instanceof NotNullAnnotationFeatures) {
             notNullOption = (NotNullAnnotationFeatures)this;
             if (additionalProperties.containsKey(NOT_NULL_JACKSON_ANNOTATION)) {
@@ -1116,24 +1164,410 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
         return objs;
     }
 
-    @Override
-    public void preprocessOpenAPI(OpenAPI openAPI) {
-        super.preprocessOpenAPI(openAPI);
-        if (openAPI == null || openAPI.getPaths() == null){
+    /**
+     * Flag operations returning a list container, so library templates can emit an additional
+     * method reading the response body element by element instead of materializing the whole list.
+     *
+     * @param operations operations of a single api
+     */
+    protected void markStreamListResponses(List<CodegenOperation> operations) {
+        if (operations == null) {
             return;
         }
-        boolean checkDuplicatedModelName = Boolean.parseBoolean(additionalProperties.get(CHECK_DUPLICATED_MODEL_NAME) != null ? additionalProperties.get(CHECK_DUPLICATED_MODEL_NAME).toString() : "");
-        if (checkDuplicatedModelName) {
-            this.checkDuplicatedModelNameIgnoringCase(openAPI);
+        for (CodegenOperation operation : operations) {
+            if (operation.returnBaseType == null || !getBooleanValue(operation, CodegenConstants.IS_LIST_CONTAINER_EXT_NAME)) {
+                continue;
+            }
+            if (isDataTypeBinary(operation.returnBaseType) || isDataTypeFile(operation.returnBaseType)) {
+                continue;
+            }
+            operation.getVendorExtensions().put(STREAM_LIST_RESPONSE_EXT_NAME, Boolean.TRUE);
         }
+    }
 
-        for (String pathname : openAPI.getPaths().keySet()) {
-            PathItem pathItem = openAPI.getPaths().get(pathname);
+    @Override
+    public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+        if (nativeImage) {
+            addNativeImageMetadata(objs);
+        }
+        if (jacksonCodecs) {
+            addJsonCodecs(objs);
+        }
+        return super.postProcessSupportingFileData(objs);
+    }
 
-            for (Operation operation : pathItem.readOperations()) {
-                if (operation == null) {
+    /**
+     * Adds the <code>reflect-config.json</code> and <code>resource-config.json</code> files read by the GraalVM
+     * native-image builder from <code>META-INF/native-image/groupId/artifactId</code> to the supporting files, with
+     * their content in the <code>nativeImageReflectConfig</code> and <code>nativeImageResourceConfig</code> entries.
+     * Models, their inner enums, discriminator subtypes and the classes generated for each api are registered for
+     * reflection, as the json libraries and the server frameworks bind them reflectively. Resources are the
+     * supporting files written under <code>src/main/resources</code>.
+     *
+     * @param objs data of the supporting files, holding the processed models and apis
+     */
+    @SuppressWarnings("unchecked")
+    protected void addNativeImageMetadata(Map<String, Object> objs) {
+        final Map<String, Map<String, Object>> reflectConfig = new LinkedHashMap<>();
+        final List<Object> models = (List<Object>) objs.get("models");
+        if (models != null) {
+            for (Object model : models) {
+                final CodegenModel codegenModel = (CodegenModel) ((Map<String, Object>) model).get("model");
+                if (codegenModel != null) {
+                    addNativeImageModel(reflectConfig, codegenModel);
+                }
+            }
+        }
+        final Map<String, Object> apiInfo = (Map<String, Object>) objs.get("apiInfo");
+        final List<Map<String, Object>> apis = apiInfo == null ? null : (List<Map<String, Object>>) apiInfo.get("apis");
+        if (apis != null) {
+            for (Map<String, Object> api : apis) {
+                final String tag = (String) api.get("baseName");
+                if (tag == null) {
                     continue;
                 }
+                for (Map.Entry<String, String> apiTemplate : apiTemplateFiles().entrySet()) {
+                    if (apiTemplate.getValue().endsWith(".java")) {
+                        addNativeImageClass(reflectConfig, toNativeImageApiClassName(apiFilename(apiTemplate.getKey(), tag)));
+                    }
+                }
+            }
+        }
+
+        final String resourcesFolder = projectFolder + File.separator + "resources";
+        final String resourcesPrefix = resourcesFolder.replace('\\', '/');
+        final String nativeImageFolder = resourcesFolder + File.separator + NATIVE_IMAGE_FOLDER + File.separator
+                + groupId + File.separator + artifactId;
+        final List<Map<String, Object>> resources = new ArrayList<>();
+        for (SupportingFile supportingFile : supportingFiles) {
+            final String folder = supportingFile.folder.replace('\\', '/');
+            if (!folder.equals(resourcesPrefix) && !folder.startsWith(resourcesPrefix + "/")) {
+                continue;
+            }
+            if (supportingFile.folder.equals(nativeImageFolder)) {
+                continue;
+            }
+            final String resource = (folder + "/" + supportingFile.destinationFilename).substring(resourcesPrefix.length() + 1);
+            final Map<String, Object> include = new LinkedHashMap<>();
+            include.put("pattern", Pattern.quote(resource));
+            resources.add(include);
+        }
+        final Map<String, Object> resourceIncludes = new LinkedHashMap<>();
+        resourceIncludes.put("includes", resources);
+        final Map<String, Object> resourceConfig = new LinkedHashMap<>();
+        resourceConfig.put("resources", resourceIncludes);
+        resourceConfig.put("bundles", Collections.emptyList());
+
+        try {
+            objs.put("nativeImageReflectConfig", Json.pretty().writeValueAsString(reflectConfig.values()));
+            objs.put("nativeImageResourceConfig", Json.pretty().writeValueAsString(resourceConfig));
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("Could not build native-image metadata.", e);
+            return;
+        }
+        addNativeImageSupportingFile("nativeImageReflectConfig.mustache", nativeImageFolder, "reflect-config.json");
+        addNativeImageSupportingFile("nativeImageResourceConfig.mustache", nativeImageFolder, "resource-config.json");
+    }
+
+    private void addNativeImageSupportingFile(String templateFile, String folder, String destinationFilename) {
+        for (SupportingFile supportingFile : supportingFiles) {
+            if (supportingFile.folder.equals(folder) && supportingFile.destinationFilename.equals(destinationFilename)) {
+                return;
+            }
+        }
+        supportingFiles.add(new SupportingFile(templateFile, folder, destinationFilename));
+    }
+
+    private void addNativeImageModel(Map<String, Map<String, Object>> reflectConfig, CodegenModel codegenModel) {
+        final String className = toModelImport(codegenModel.classname);
+        final boolean gson = additionalProperties.containsKey("gson");
+        addNativeImageClass(reflectConfig, className);
+        if (gson && getBooleanValue(codegenModel, IS_ENUM_EXT_NAME)) {
+            addNativeImageClass(reflectConfig, className + "$Adapter");
+        }
+        if (codegenModel.vars != null) {
+            for (CodegenProperty property : codegenModel.vars) {
+                while (property.items != null) {
+                    property = property.items;
+                }
+                if (getBooleanValue(property, IS_ENUM_EXT_NAME)) {
+                    addNativeImageClass(reflectConfig, className + "$" + property.datatypeWithEnum);
+                    if (gson) {
+                        addNativeImageClass(reflectConfig, className + "$" + property.datatypeWithEnum + "$Adapter");
+                    }
+                }
+            }
+        }
+        // subtypes listed by JsonSubTypes, which jackson instantiates from the discriminator value
+        if (codegenModel.children != null) {
+            for (CodegenModel child : codegenModel.children) {
+                addNativeImageClass(reflectConfig, toModelImport(child.classname));
+            }
+        }
+        if (codegenModel.getSubTypes() != null) {
+            for (CodegenModel subType : codegenModel.getSubTypes()) {
+                addNativeImageClass(reflectConfig, toModelImport(subType.classname));
+            }
+        }
+    }
+
+    private static void addNativeImageClass(Map<String, Map<String, Object>> reflectConfig, String className) {
+        if (className == null || reflectConfig.containsKey(className)) {
+            return;
+        }
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("name", className);
+        entry.put("allDeclaredFields", true);
+        entry.put("allDeclaredMethods", true);
+        entry.put("allDeclaredConstructors", true);
+        entry.put("allPublicMethods", true);
+        reflectConfig.put(className, entry);
+    }
+
+    /**
+     * Derives the name of an api class from the file it is generated in. The impl and factory classes of the
+     * server generators live in sub packages of the api package.
+     */
+    private String toNativeImageApiClassName(String apiFilename) {
+        final String path = apiFilename.replace('\\', '/');
+        final int index = path.lastIndexOf("/" + apiPackage().replace('.', '/') + "/");
+        if (index < 0) {
+            return null;
+        }
+        return path.substring(index + 1, path.length() - ".java".length()).replace('/', '.');
+    }
+
+    /**
+     * Adds the data of the <code>JsonCodecModule</code> to the supporting files. Models get a serializer and a
+     * deserializer reading and writing their properties, inherited ones included, by name, the entries of map models
+     * and the discriminator of their hierarchy. Enums, inner ones included, get a codec built on their value.
+     * Hierarchies holding a model the codecs do not support, like array models or models with read only properties,
+     * are left to the reflective bean (de)serializers altogether, as jackson applies the serializer registered for a
+     * class to its subclasses.
+     *
+     * @param objs data of the supporting files, holding the processed models
+     */
+    @SuppressWarnings("unchecked")
+    protected void addJsonCodecs(Map<String, Object> objs) {
+        final List<CodegenModel> codegenModels = new ArrayList<>();
+        final List<Object> models = (List<Object>) objs.get("models");
+        if (models != null) {
+            for (Object model : models) {
+                final CodegenModel codegenModel = (CodegenModel) ((Map<String, Object>) model).get("model");
+                if (codegenModel != null) {
+                    codegenModels.add(codegenModel);
+                }
+            }
+        }
+        final Set<String> modelNames = new HashSet<>();
+        final Set<String> reflectiveHierarchies = new HashSet<>();
+        for (CodegenModel codegenModel : codegenModels) {
+            modelNames.add(codegenModel.classname);
+            if (!getBooleanValue(codegenModel, IS_ENUM_EXT_NAME) && !supportsJsonCodec(codegenModel)) {
+                reflectiveHierarchies.add(getJsonCodecRoot(codegenModel).classname);
+            }
+        }
+        final Set<String> imports = new TreeSet<>();
+        final List<Map<String, Object>> codecs = new ArrayList<>();
+        final Map<String, Map<String, Object>> enumCodecs = new LinkedHashMap<>();
+        for (CodegenModel codegenModel : codegenModels) {
+            if (getBooleanValue(codegenModel, IS_ENUM_EXT_NAME)) {
+                addJsonCodecEnum(enumCodecs, codegenModel.classname, codegenModel.dataType, modelNames, imports);
+                continue;
+            }
+            if (codegenModel.getIsComposedModel()) {
+                continue;
+            }
+            if (codegenModel.vars != null) {
+                for (CodegenProperty property : codegenModel.vars) {
+                    final CodegenProperty items = getJsonCodecItems(property);
+                    if (getBooleanValue(items, IS_ENUM_EXT_NAME)) {
+                        addJsonCodecEnum(enumCodecs, codegenModel.classname + "." + items.datatypeWithEnum, items.datatype, modelNames, imports);
+                    }
+                }
+            }
+            if (!reflectiveHierarchies.contains(getJsonCodecRoot(codegenModel).classname)) {
+                codecs.add(toJsonCodec(codegenModel, modelNames, imports));
+            }
+        }
+        objs.put("jsonCodecs", codecs);
+        objs.put("jsonCodecEnums", new ArrayList<>(enumCodecs.values()));
+        objs.put("jsonCodecImports", new ArrayList<>(imports));
+    }
+
+    private boolean supportsJsonCodec(CodegenModel codegenModel) {
+        if (codegenModel.getIsComposedModel() || getBooleanValue(codegenModel, CodegenConstants.IS_ARRAY_MODEL_EXT_NAME)) {
+            return false;
+        }
+        // the properties of a parent which is not a generated model are unknown, map models excepted
+        if (codegenModel.parent != null && codegenModel.parentModel == null && getJsonCodecMapValueType(codegenModel) == null) {
+            return false;
+        }
+        if (codegenModel.vars != null) {
+            for (CodegenProperty property : codegenModel.vars) {
+                if (getBooleanValue(property, CodegenConstants.IS_READ_ONLY_EXT_NAME)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private Map<String, Object> toJsonCodec(CodegenModel codegenModel, Set<String> modelNames, Set<String> imports) {
+        final List<CodegenModel> hierarchy = new ArrayList<>();
+        CodegenModel discriminatorModel = null;
+        for (CodegenModel model = codegenModel; model != null; model = model.parentModel) {
+            hierarchy.add(0, model);
+            if (discriminatorModel == null && model.discriminator != null) {
+                discriminatorModel = model;
+            }
+        }
+        final String typeProperty = discriminatorModel == null ? null : discriminatorModel.discriminator.getPropertyName();
+        final String typeName = discriminatorModel == codegenModel ? codegenModel.classname : getJsonCodecTypeName(codegenModel);
+
+        // properties of the parents come first, a property declared again keeps its position
+        final Map<String, Map<String, Object>> fields = new LinkedHashMap<>();
+        for (CodegenModel model : hierarchy) {
+            if (model.vars == null) {
+                continue;
+            }
+            for (CodegenProperty property : model.vars) {
+                final String typeConstant = "TYPE_" + underscore(property.name).toUpperCase(Locale.ROOT);
+                final Map<String, Object> field = toJsonCodecValue(getJsonCodecDatatype(model, property), typeConstant, modelNames, imports);
+                field.put("baseName", property.baseName);
+                field.put("getter", property.getter);
+                field.put("setter", property.setter);
+                field.put("localName", property.name + "Value");
+                field.put("presentVar", "has" + camelize(property.name));
+                field.put("required", property.required);
+                field.put("discriminatorValue", property.baseName.equals(typeProperty) ? typeName : "");
+                fields.put(property.baseName, field);
+            }
+        }
+
+        final Map<String, Object> codec = new HashMap<>();
+        codec.put("classname", codegenModel.classname);
+        codec.put("fields", new ArrayList<>(fields.values()));
+        codec.put("hasRequired", fields.values().stream().anyMatch(field -> Boolean.TRUE.equals(field.get("required"))));
+        codec.put("typeProperty", typeProperty == null ? "" : typeProperty);
+        codec.put("typeName", typeProperty == null ? "" : typeName);
+        codec.put("typePropertyDeclared", typeProperty != null && fields.containsKey(typeProperty));
+        final List<Map<String, Object>> subtypes = new ArrayList<>();
+        if (typeProperty != null && codegenModel.children != null) {
+            for (CodegenModel child : codegenModel.children) {
+                final Map<String, Object> subtype = new HashMap<>();
+                subtype.put("typeId", getJsonCodecTypeName(child));
+                subtype.put("subtype", child.classname);
+                subtypes.add(subtype);
+            }
+        }
+        codec.put("subtypes", subtypes);
+        final String mapValueType = getJsonCodecMapValueType(hierarchy.get(0));
+        if (mapValueType != null) {
+            codec.put("mapValue", toJsonCodecValue(mapValueType, "VALUE_TYPE", modelNames, imports));
+            imports.add("java.util.Map");
+        } else {
+            codec.put("mapValue", false);
+        }
+        return codec;
+    }
+
+    /**
+     * Describes how the codecs read and write a value of the given type: the primitive wrappers have dedicated
+     * methods, other types are left to the (de)serializers registered with jackson, generic ones through a
+     * <code>JavaType</code> constant.
+     */
+    private Map<String, Object> toJsonCodecValue(String datatype, String typeConstant, Set<String> modelNames, Set<String> imports) {
+        final Map<String, Object> value = new HashMap<>();
+        value.put("datatype", datatype);
+        value.put("writeMethod", JSON_CODEC_WRITE_METHODS.getOrDefault(datatype, ""));
+        value.put("readMethod", JSON_CODEC_WRITE_METHODS.containsKey(datatype) ? "read" + datatype : "");
+        value.put("typeConstant", datatype.contains("<") ? typeConstant : "");
+        final Matcher matcher = JAVA_IDENTIFIER.matcher(datatype);
+        while (matcher.find()) {
+            final String mapping = importMapping.get(matcher.group());
+            if (mapping != null && !modelNames.contains(matcher.group())) {
+                imports.add(mapping);
+            }
+        }
+        return value;
+    }
+
+    private void addJsonCodecEnum(Map<String, Map<String, Object>> enumCodecs, String classname, String datatype, Set<String> modelNames, Set<String> imports) {
+        if (enumCodecs.containsKey(classname)) {
+            return;
+        }
+        final String valueType = datatype == null ? "String" : datatype;
+        final Map<String, Object> enumCodec = toJsonCodecValue(valueType, "", modelNames, imports);
+        enumCodec.put("classname", classname);
+        enumCodec.put("codecName", classname.replace(".", ""));
+        enumCodec.put("isString", "String".equals(valueType));
+        enumCodec.put("byText", isJsonCodecEnumByText());
+        enumCodecs.put(classname, enumCodec);
+    }
+
+    /**
+     * Whether the enums of the templates are written with <code>toString()</code> and read with
+     * <code>fromValue(String)</code>, instead of through their typed <code>getValue()</code> and
+     * <code>fromValue</code>.
+     */
+    protected boolean isJsonCodecEnumByText() {
+        return false;
+    }
+
+    /**
+     * Returns the type of the property as seen from other classes, inner enums being qualified by their model.
+     */
+    private String getJsonCodecDatatype(CodegenModel codegenModel, CodegenProperty property) {
+        final String datatype = property.datatypeWithEnum != null ? property.datatypeWithEnum : property.datatype;
+        final CodegenProperty items = getJsonCodecItems(property);
+        if (!getBooleanValue(items, IS_ENUM_EXT_NAME) || items.datatypeWithEnum == null) {
+            return datatype;
+        }
+        return datatype.replaceAll("\\b" + Pattern.quote(items.datatypeWithEnum) + "\\b",
+                Matcher.quoteReplacement(codegenModel.classname + "." + items.datatypeWithEnum));
+    }
+
+    private CodegenProperty getJsonCodecItems(CodegenProperty property) {
+        while (property.items != null) {
+            property = property.items;
+        }
+        return property;
+    }
+
+    private CodegenModel getJsonCodecRoot(CodegenModel codegenModel) {
+        while (codegenModel.parentModel != null) {
+            codegenModel = codegenModel.parentModel;
+        }
+        return codegenModel;
+    }
+
+    private String getJsonCodecMapValueType(CodegenModel codegenModel) {
+        if (codegenModel.parent == null || !getBooleanValue(codegenModel, CodegenConstants.IS_MAP_CONTAINER_EXT_NAME)) {
+            return null;
+        }
+        final Matcher matcher = JSON_CODEC_MAP_PARENT.matcher(codegenModel.parent);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private String getJsonCodecTypeName(CodegenModel codegenModel) {
+        final Object discriminatorValue = codegenModel.getVendorExtensions().get("x-discriminator-value");
+        return discriminatorValue != null ? discriminatorValue.toString() : codegenModel.name;
+    }
+
+    @Override
+    protected void addPreprocessVisitors(OpenAPI openAPI, List<OpenAPIVisitor> visitors) {
+        super.addPreprocessVisitors(openAPI, visitors);
+        boolean checkDuplicatedModelName = Boolean.parseBoolean(additionalProperties.get(CHECK_DUPLICATED_MODEL_NAME) != null ? additionalProperties.get(CHECK_DUPLICATED_MODEL_NAME).toString() : "");
+        if (checkDuplicatedModelName) {
+            final Map<String, String> renamedModels = renameDuplicatedModelNamesIgnoringCase(openAPI);
+            if (!renamedModels.isEmpty()) {
+                visitors.add(new RenamedModelRefVisitor(renamedModels));
+            }
+        }
+        visitors.add(new OpenAPIVisitor() {
+            @Override
+            public void visitOperation(String pathname, PathItem.HttpMethod method, Operation operation, PathItem pathItem) {
                 //only add content-Type if its no a GET-Method
                 if (!operation.equals(pathItem.getGet())) {
                     String contentType = getContentType(operation.getRequestBody());
@@ -1145,7 +1579,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
                 String accepts = getAccept(operation);
                 operation.addExtension("x-accepts", accepts);
             }
-        }
+        });
     }
 
     private static String getAccept(Operation operation) {
@@ -1186,101 +1620,124 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
         return super.needToImport(type) && type.indexOf(".") < 0;
     }
 
-    protected void checkDuplicatedModelNameIgnoringCase(OpenAPI openAPI) {
+    /**
+     * Renames the schemas whose name only differs in case from the name of a previous schema, e.g. "pet" after "Pet"
+     * becomes "pet1". References to them are renamed by a {@link RenamedModelRefVisitor} during the walk over the
+     * specification.
+     *
+     * @param openAPI the specification
+     * @return the new names by old name
+     */
+    protected Map<String, String> renameDuplicatedModelNamesIgnoringCase(OpenAPI openAPI) {
+        final Map<String, String> renamedModels = new HashMap<>();
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return renamedModels;
+        }
         final Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
-        final Map<String, Map<String, Schema>> schemasRepeated = new HashMap<>();
-
+        final Map<String, List<String>> namesIgnoringCase = new LinkedHashMap<>();
         for (String schemaKey : schemas.keySet()) {
-            final Schema schema = schemas.get(schemaKey);
-            final String lowerKeyDefinition = schemaKey.toLowerCase();
-
-            if (schemasRepeated.containsKey(lowerKeyDefinition)) {
-                Map<String, Schema> modelMap = schemasRepeated.get(lowerKeyDefinition);
-                if (modelMap == null) {
-                    modelMap = new HashMap<>();
-                    schemasRepeated.put(lowerKeyDefinition, modelMap);
-                }
-                modelMap.put(schemaKey, schema);
-            } else {
-                schemasRepeated.put(lowerKeyDefinition, null);
-            }
+            namesIgnoringCase.computeIfAbsent(schemaKey.toLowerCase(), key -> new ArrayList<>()).add(schemaKey);
         }
-        for (String lowerKeyDefinition : schemasRepeated.keySet()) {
-            final Map<String, Schema> modelMap = schemasRepeated.get(lowerKeyDefinition);
-            if (modelMap == null) {
-                continue;
-            }
-            int index = 1;
-            for (String name : modelMap.keySet()) {
-                final Schema schema = modelMap.get(name);
+        for (List<String> names : namesIgnoringCase.values()) {
+            for (int index = 1; index < names.size(); index++) {
+                final String name = names.get(index);
                 final String newModelName = name + index;
-                schemas.put(newModelName, schema);
-                replaceDuplicatedInPaths(openAPI.getPaths(), name, newModelName);
-                replaceDuplicatedInModelProperties(schemas, name, newModelName);
-                schemas.remove(name);
-                index++;
+                schemas.put(newModelName, schemas.remove(name));
+                renamedModels.put(name, newModelName);
             }
         }
+        return renamedModels;
+    }
+
+    /**
+     * @deprecated the duplicated model names are renamed by {@link #renameDuplicatedModelNamesIgnoringCase(OpenAPI)}
+     * and a {@link RenamedModelRefVisitor} during the walk of {@link #preprocessOpenAPI(OpenAPI)}.
+     */
+    @Deprecated
+    protected void checkDuplicatedModelNameIgnoringCase(OpenAPI openAPI) {
+        final Map<String, String> renamedModels = renameDuplicatedModelNamesIgnoringCase(openAPI);
+        if (!renamedModels.isEmpty()) {
+            OpenAPIWalker.walk(openAPI, Collections.singletonList(new RenamedModelRefVisitor(renamedModels)));
+        }
     }
 
+    /**
+     * @deprecated references are renamed by a {@link RenamedModelRefVisitor}.
+     */
+    @Deprecated
     protected void replaceDuplicatedInPaths(Paths paths, String modelName, String newModelName) {
         if (paths == null || paths.isEmpty()) {
             return;
         }
-        paths.values().stream()
-            .flatMap(pathItem -> pathItem.readOperations().stream())
-            .filter(operation -> {
-                final RequestBody requestBody = operation.getRequestBody();
-                if (requestBody == null || requestBody.getContent() == null || requestBody.getContent().isEmpty()) {
-                    return false;
-                }
-                final Optional<MediaType> mediaTypeOptional = requestBody.getContent().values().stream().findAny();
-                if (!mediaTypeOptional.isPresent()) {
-                    return false;
-                }
-                final MediaType mediaType = mediaTypeOptional.get();
-                final Schema schema = mediaType.getSchema();
-                if (schema.get$ref() != null) {
-                    return true;
-                }
-                return false;
-            })
-            .forEach(operation -> {
-                Schema schema = this.getSchemaFromBody(operation.getRequestBody());
-                schema.set$ref(schema.get$ref().replace(modelName, newModelName));
-            });
-        paths.values().stream()
-            .flatMap(path -> path.readOperations().stream())
-            .flatMap(operation -> operation.getResponses().values().stream())
-            .filter(response -> {
-                if (response.getContent() == null || response.getContent().isEmpty()) {
-                    return false;
-                }
-                final Optional<MediaType> mediaTypeOptional = response.getContent().values().stream().findFirst();
-                if (!mediaTypeOptional.isPresent()) {
-                    return false;
-                }
-                final MediaType mediaType = mediaTypeOptional.get();
-                final Schema schema = mediaType.getSchema();
-                if (schema.get$ref() != null) {
-                    return true;
-                }
-                return false;
-            }).forEach(response -> {
-                final Optional<MediaType> mediaTypeOptional = response.getContent().values().stream().findFirst();
-                final Schema schema = mediaTypeOptional.get().getSchema();
-                schema.set$ref(schema.get$ref().replace(modelName, newModelName));
-            });
+        final OpenAPIVisitor visitor = new RenamedModelRefVisitor(Collections.singletonMap(modelName, newModelName));
+        OpenAPIWalker.walk(new OpenAPI().paths(paths), Collections.singletonList(visitor));
     }
 
+    /**
+     * @deprecated references are renamed by a {@link RenamedModelRefVisitor}.
+     */
+    @Deprecated
     protected void replaceDuplicatedInModelProperties(Map<String, Schema> definitions, String modelName, String newModelName) {
-        definitions.values().stream()
-            .flatMap(model -> model.getProperties().values().stream())
-            .filter(property -> ((Schema) property).get$ref() != null)
-            .forEach(property -> {
-                final Schema schema = (Schema) property;
-                schema.set$ref(schema.get$ref().replace(modelName, newModelName));
-            });
+        final OpenAPIVisitor visitor = new RenamedModelRefVisitor(Collections.singletonMap(modelName, newModelName));
+        for (Map.Entry<String, Schema> entry : definitions.entrySet()) {
+            visitor.visitSchema(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Renames the references to renamed schemas from request bodies, responses and schema properties.
+     */
+    protected static class RenamedModelRefVisitor implements OpenAPIVisitor {
+
+        private static final String SCHEMAS_REF_PREFIX = "#/components/schemas/";
+
+        private final Map<String, String> renamedModels;
+
+        public RenamedModelRefVisitor(Map<String, String> renamedModels) {
+            this.renamedModels = renamedModels;
+        }
+
+        @Override
+        public void visitOperation(String pathname, PathItem.HttpMethod method, Operation operation, PathItem pathItem) {
+            if (operation.getRequestBody() != null) {
+                renameRefs(operation.getRequestBody().getContent());
+            }
+        }
+
+        @Override
+        public void visitResponse(Operation operation, String responseCode, ApiResponse response) {
+            renameRefs(response.getContent());
+        }
+
+        @Override
+        public void visitSchema(String name, Schema schema) {
+            final Map<String, Schema> properties = schema.getProperties();
+            if (properties == null) {
+                return;
+            }
+            for (Schema property : properties.values()) {
+                renameRef(property);
+            }
+        }
+
+        private void renameRefs(Content content) {
+            if (content == null) {
+                return;
+            }
+            for (MediaType mediaType : content.values()) {
+                renameRef(mediaType.getSchema());
+            }
+        }
+
+        private void renameRef(Schema schema) {
+            if (schema == null || schema.get$ref() == null || !schema.get$ref().startsWith(SCHEMAS_REF_PREFIX)) {
+                return;
+            }
+            final String newModelName = renamedModels.get(schema.get$ref().substring(SCHEMAS_REF_PREFIX.length()));
+            if (newModelName != null) {
+                schema.set$ref(SCHEMAS_REF_PREFIX + newModelName);
+            }
+        }
     }
 
     @Override
@@ -1584,6 +2041,54 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
         this.jakarta = jakarta;
     }
 
+    public void setStreamListResponses(boolean streamListResponses) {
+        this.streamListResponses = streamListResponses;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public void setNativeImage(boolean nativeImage) {
+        this.nativeImage = nativeImage;
+    }
+
+    public void setJacksonCodecs(boolean jacksonCodecs) {
+        this.jacksonCodecs = jacksonCodecs;
+    }
+
+    /**
+     * Reads the virtual threads option of the server generators. Virtual threads require JDK 21, so enabling
+     * them raises the java level of the generated build files through the <code>java21</code> property.
+     */
+    protected void processVirtualThreadsOpt() {
+        if (additionalProperties.containsKey(VIRTUAL_THREADS)) {
+            this.setVirtualThreads(convertPropertyToBooleanAndWriteBack(VIRTUAL_THREADS));
+        }
+        if (virtualThreads) {
+            additionalProperties.put(JAVA21, true);
+        }
+    }
+
+    /**
+     * Reads the jackson codecs option of the generators registering the models with a jackson
+     * <code>ObjectMapper</code>, see {@link #addJsonCodecModule()}.
+     */
+    protected void processJacksonCodecsOpt() {
+        if (additionalProperties.containsKey(JACKSON_CODECS)) {
+            this.setJacksonCodecs(convertPropertyToBooleanAndWriteBack(JACKSON_CODECS));
+        }
+    }
+
+    /**
+     * Adds the <code>JsonCodecModule</code> class to the model package, the jackson module holding the serializers
+     * and deserializers generated for the models.
+     */
+    protected void addJsonCodecModule() {
+        supportingFiles.add(new SupportingFile("jsonCodecModule.mustache",
+                (sourceFolder + File.separator + modelPackage).replace(".", File.separator), "JsonCodecModule.java"));
+    }
+
     @Override
     public String escapeQuotationMark(String input) {
         // remove " to avoid code injection
@@ -1592,7 +2097,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
 
     @Override
     public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+        return TextEscaper.BLOCK_COMMENT.escape(input);
     }
 
     /*
@@ -1659,7 +2164,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
     @Override
     public void addHandlebarHelpers(Handlebars handlebars) {
         super.addHandlebarHelpers(handlebars);
-        handlebars.registerHelpers(new JavaHelper());
+        handlebars.registerHelpers(JAVA_HELPER);
     }
 
     @Override
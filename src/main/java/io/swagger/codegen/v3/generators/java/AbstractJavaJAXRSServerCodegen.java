@@ -60,6 +60,7 @@ public abstract class AbstractJavaJAXRSServerCodegen extends AbstractJavaCodegen
 
         cliOptions.add(CliOption.newBoolean(USE_BEANVALIDATION, "Use BeanValidation API annotations"));
         cliOptions.add(new CliOption("serverPort", "The port on which the server should be started"));
+        cliOptions.add(CliOption.newBoolean(VIRTUAL_THREADS, "Run request handlers on virtual threads, requires JDK 21"));
     }
 
 
@@ -92,6 +93,7 @@ public abstract class AbstractJavaJAXRSServerCodegen extends AbstractJavaCodegen
             writePropertyBack(USE_BEANVALIDATION, useBeanValidation);
         }
 
+        processVirtualThreadsOpt();
     }
 
     @Override
@@ -251,6 +253,11 @@ public abstract class AbstractJavaJAXRSServerCodegen extends AbstractJavaCodegen
         this.useBeanValidation = useBeanValidation;
     }
 
+    @Override
+    protected boolean isJsonCodecEnumByText() {
+        return true;
+    }
+
     @Override
     public String getArgumentsLocation() {
         return "/arguments/server.yaml";
@@ -86,6 +86,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         cliOptions.add(CliOption.newBoolean(PERFORM_BEANVALIDATION, "Perform BeanValidation"));
         cliOptions.add(CliOption.newBoolean(USE_GZIP_FEATURE, "Send gzip-encoded requests"));
         cliOptions.add(CliOption.newBoolean(USE_RUNTIME_EXCEPTION, "Use RuntimeException instead of Exception"));
+        cliOptions.add(CliOption.newBoolean(STREAM_LIST_RESPONSES, "Generate an additional method for operations returning a list, that deserializes the response elements one by one (okhttp-gson, okhttp4-gson and jersey2 libraries)"));
+        cliOptions.add(CliOption.newBoolean(JACKSON_CODECS, "Generate jackson serializers and deserializers for the models instead of binding them by reflection (jersey1, jersey2, jersey3, feign, resteasy and resttemplate libraries)"));
 
         supportedLibraries.put("jersey1", "HTTP client: Jersey client 1.19.4. JSON processing: Jackson 2.10.1. Enable gzip request encoding using '-DuseGzipFeature=true'.");
         supportedLibraries.put("feign", "HTTP client: OpenFeign 9.4.0. JSON processing: Jackson 2.10.1");
@@ -179,6 +181,25 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
             this.setUseRuntimeException(convertPropertyToBooleanAndWriteBack(USE_RUNTIME_EXCEPTION));
         }
 
+        if (additionalProperties.containsKey(STREAM_LIST_RESPONSES)) {
+            this.setStreamListResponses(convertPropertyToBooleanAndWriteBack(STREAM_LIST_RESPONSES));
+        }
+        if (streamListResponses && !supportsStreamListResponses()) {
+            LOGGER.warn(STREAM_LIST_RESPONSES + " is not supported by library " + getLibrary() + ", option will be ignored.");
+            this.setStreamListResponses(false);
+            writePropertyBack(STREAM_LIST_RESPONSES, false);
+        }
+
+        processJacksonCodecsOpt();
+        if (jacksonCodecs && !supportsJacksonCodecs()) {
+            LOGGER.warn(JACKSON_CODECS + " is not supported by library " + getLibrary() + ", option will be ignored.");
+            this.setJacksonCodecs(false);
+            writePropertyBack(JACKSON_CODECS, false);
+        }
+        if (jacksonCodecs) {
+            addJsonCodecModule();
+        }
+
         final String invokerFolder = (sourceFolder + File.separator + invokerPackage).replace(".", File.separator);
         final String authFolder = (sourceFolder + File.separator + invokerPackage + ".auth").replace(".", File.separator);
         final String apiFolder = (sourceFolder + File.separator + apiPackage).replace(".", File.separator);
@@ -245,6 +266,9 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
             supportingFiles.add(new SupportingFile("ProgressRequestBody.mustache", invokerFolder, "ProgressRequestBody.java"));
             supportingFiles.add(new SupportingFile("ProgressResponseBody.mustache", invokerFolder, "ProgressResponseBody.java"));
             supportingFiles.add(new SupportingFile("GzipRequestInterceptor.mustache", invokerFolder, "GzipRequestInterceptor.java"));
+            if (streamListResponses) {
+                supportingFiles.add(new SupportingFile("JsonStreamIterator.mustache", invokerFolder, "JsonStreamIterator.java"));
+            }
             additionalProperties.put("gson", "true");
         } else if (usesAnyRetrofitLibrary()) {
             supportingFiles.add(new SupportingFile("auth/OAuthOkHttpClient.mustache", authFolder, "OAuthOkHttpClient.java"));
@@ -311,6 +335,22 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         }
     }
 
+    private boolean supportsStreamListResponses() {
+        return StringUtils.isEmpty(getLibrary())
+                || "okhttp-gson".equals(getLibrary())
+                || "okhttp4-gson".equals(getLibrary())
+                || "jersey2".equals(getLibrary());
+    }
+
+    private boolean supportsJacksonCodecs() {
+        return "jersey1".equals(getLibrary())
+                || "jersey2".equals(getLibrary())
+                || "jersey3".equals(getLibrary())
+                || "feign".equals(getLibrary())
+                || "resteasy".equals(getLibrary())
+                || "resttemplate".equals(getLibrary());
+    }
+
     private boolean usesAnyRetrofitLibrary() {
         return getLibrary() != null && getLibrary().contains(RETROFIT_1);
     }
@@ -323,6 +363,12 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
     @Override
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
         super.postProcessOperations(objs);
+        if (streamListResponses) {
+            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+            if (operations != null) {
+                markStreamListResponses((List<CodegenOperation>) operations.get("operation"));
+            }
+        }
         if (usesAnyRetrofitLibrary()) {
             Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
             if (operations != null) {
@@ -1,6 +1,7 @@
 package io.swagger.codegen.v3.generators.java;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenArgument;
 import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenModel;
@@ -52,6 +53,8 @@ public class JavaInflectorServerCodegen extends AbstractJavaCodegen {
         additionalProperties.put("title", title);
         // java inflector uses the jackson lib
         additionalProperties.put("jackson", "true");
+
+        cliOptions.add(CliOption.newBoolean(VIRTUAL_THREADS, "Run request handlers on virtual threads, requires JDK 21"));
     }
 
     @Override
@@ -83,6 +86,11 @@ public class JavaInflectorServerCodegen extends AbstractJavaCodegen {
         );
         supportingFiles.add(new SupportingFile("StringUtil.mustache",
                 (sourceFolder + '/' + invokerPackage).replace(".", "/"), "StringUtil.java"));
+
+        processVirtualThreadsOpt();
+        if (virtualThreads) {
+            writeOptional(outputFolder, new SupportingFile("jetty-virtual-threads.mustache", "src/main/jetty", "jetty-virtual-threads.xml"));
+        }
     }
 
     @Override
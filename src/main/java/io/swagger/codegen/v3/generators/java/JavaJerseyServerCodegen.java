@@ -46,6 +46,7 @@ public class JavaJerseyServerCodegen extends AbstractJavaJAXRSServerCodegen {
 
         cliOptions.add(library);
         cliOptions.add(CliOption.newBoolean(USE_TAGS, "use tags for creating interface and controller classnames"));
+        cliOptions.add(CliOption.newBoolean(JACKSON_CODECS, "Generate jackson serializers and deserializers for the models instead of binding them by reflection"));
     }
 
     @Override
@@ -103,6 +104,11 @@ public class JavaJerseyServerCodegen extends AbstractJavaJAXRSServerCodegen {
 
         addDateLibrary();
         addSupportingFiles();
+
+        processJacksonCodecsOpt();
+        if (jacksonCodecs) {
+            addJsonCodecModule();
+        }
     }
 
     public void addDateLibrary() {
@@ -139,6 +145,9 @@ public class JavaJerseyServerCodegen extends AbstractJavaJAXRSServerCodegen {
         supportingFiles.add(new SupportingFile("RFC3339DateFormat.mustache", (sourceFolder + '/' + apiPackage).replace(".", "/"), "RFC3339DateFormat.java"));
         writeOptional(outputFolder, new SupportingFile("bootstrap.mustache", (implFolder + '/' + apiPackage).replace(".", "/"), "Bootstrap.java"));
         writeOptional(outputFolder, new SupportingFile("web.mustache", ("src/main/webapp/WEB-INF"), "web.xml"));
+        if (virtualThreads) {
+            writeOptional(outputFolder, new SupportingFile("jetty-virtual-threads.mustache", "src/main/jetty", "jetty-virtual-threads.xml"));
+        }
         supportingFiles.add(new SupportingFile("StringUtil.mustache", (sourceFolder + '/' + apiPackage).replace(".", "/"), "StringUtil.java"));
     }
 
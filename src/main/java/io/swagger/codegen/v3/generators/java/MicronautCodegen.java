@@ -7,6 +7,7 @@ import io.swagger.codegen.v3.*;
 import io.swagger.codegen.v3.generators.features.BeanValidationFeatures;
 import io.swagger.codegen.v3.generators.features.OptionalFeatures;
 import io.swagger.codegen.v3.generators.handlebars.lambda.*;
+import io.swagger.codegen.v3.generators.util.OpenAPIVisitor;
 import io.swagger.codegen.v3.utils.URLPathUtil;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -284,31 +285,33 @@ public class MicronautCodegen extends AbstractJavaCodegen implements BeanValidat
         }
 
         this.additionalProperties.put("serverPort", port);
-        if (openAPI.getPaths() != null) {
-            for (String pathname : openAPI.getPaths().keySet()) {
-                PathItem pathItem = openAPI.getPaths().get(pathname);
-                final List<Operation> operations = pathItem.readOperations();
-                for (Operation operation : operations) {
-                    if (operation.getTags() != null) {
-                        List<Map<String, String>> tags = new ArrayList<>();
-                        for (String tag : operation.getTags()) {
-                            Map<String, String> value = new HashMap<>();
-                            value.put("tag", tag);
-                            value.put("hasMore", "true");
-                            tags.add(value);
-                        }
-                        if (tags.size() > 0) {
-                            tags.get(tags.size() - 1).remove("hasMore");
-                        }
-                        if (operation.getTags().size() > 0) {
-                            String tag = operation.getTags().get(0);
-                            operation.setTags(singletonList(tag));
-                        }
-                        operation.addExtension("x-tags", tags);
+    }
+
+    @Override
+    protected void addPreprocessVisitors(OpenAPI openAPI, List<OpenAPIVisitor> visitors) {
+        super.addPreprocessVisitors(openAPI, visitors);
+        visitors.add(new OpenAPIVisitor() {
+            @Override
+            public void visitOperation(String pathname, PathItem.HttpMethod method, Operation operation, PathItem pathItem) {
+                if (operation.getTags() != null) {
+                    List<Map<String, String>> tags = new ArrayList<>();
+                    for (String tag : operation.getTags()) {
+                        Map<String, String> value = new HashMap<>();
+                        value.put("tag", tag);
+                        value.put("hasMore", "true");
+                        tags.add(value);
+                    }
+                    if (tags.size() > 0) {
+                        tags.get(tags.size() - 1).remove("hasMore");
+                    }
+                    if (operation.getTags().size() > 0) {
+                        String tag = operation.getTags().get(0);
+                        operation.setTags(singletonList(tag));
                     }
+                    operation.addExtension("x-tags", tags);
                 }
             }
-        }
+        });
     }
 
     @Override
@@ -440,7 +443,7 @@ public class MicronautCodegen extends AbstractJavaCodegen implements BeanValidat
                 authMethod.name = camelize(sanitizeName(authMethod.name), true);
             }
         }
-        return objs;
+        return super.postProcessSupportingFileData(objs);
     }
 
     @Override
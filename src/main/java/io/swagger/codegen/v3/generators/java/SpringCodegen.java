@@ -17,6 +17,7 @@ import io.swagger.codegen.v3.generators.features.BeanValidationFeatures;
 import io.swagger.codegen.v3.generators.features.NotNullAnnotationFeatures;
 import io.swagger.codegen.v3.generators.features.OptionalFeatures;
 import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.OpenAPIVisitor;
 import io.swagger.codegen.v3.utils.URLPathUtil;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -24,6 +25,7 @@ import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,6 +61,8 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
     public static final String USE_TAGS = "useTags";
     public static final String SPRING_MVC_LIBRARY = "spring-mvc";
     public static final String SPRING_CLOUD_LIBRARY = "spring-cloud";
+    public static final String SPRING_WEBFLUX_LIBRARY = "spring-webflux";
+    public static final String REACTIVE_CLIENT = "reactiveClient";
     public static final String IMPLICIT_HEADERS = "implicitHeaders";
     public static final String SWAGGER_DOCKET_CONFIG = "swaggerDocketConfig";
     public static final String TARGET_OPENFEIGN = "generateForOpenFeign";
@@ -70,6 +74,9 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
 
     public static final String THROWS_EXCEPTION = "throwsException";
 
+    public static final String MULTIPART_FORM_EXT_NAME = "x-has-multipart-form";
+    public static final String URLENCODED_FORM_EXT_NAME = "x-has-urlencoded-form";
+
     protected String title = "swagger-petstore";
     protected String configPackage = "io.swagger.configuration";
     protected String basePackage = "io.swagger";
@@ -89,7 +96,9 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
     protected boolean openFeign = false;
     protected boolean defaultInterfaces = true;
     protected String springBootVersion = "2.1.16.RELEASE";
+    protected String virtualThreadsSpringBootVersion = "2.7.18";
     protected boolean throwsException = false;
+    protected boolean reactiveClient = false;
     private boolean notNullJacksonAnnotation = false;
 
     public SpringCodegen() {
@@ -123,12 +132,16 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
         cliOptions.add(CliOption.newBoolean(TARGET_OPENFEIGN,"Generate for usage with OpenFeign (instead of feign)"));
         cliOptions.add(CliOption.newBoolean(DEFAULT_INTERFACES, "Generate default implementations for interfaces").defaultValue("true"));
         cliOptions.add(CliOption.newBoolean(THROWS_EXCEPTION, "Throws Exception in operation methods").defaultValue("false"));
+        cliOptions.add(CliOption.newBoolean(VIRTUAL_THREADS, "Run request handlers on virtual threads, requires JDK 21 (spring-boot library only)"));
+        cliOptions.add(CliOption.newBoolean(JACKSON_CODECS, "Generate jackson serializers and deserializers for the models instead of binding them by reflection"));
         cliOptions.add(CliOption.newBoolean(DATE_PATTERN, "use pattern for date parameters").defaultValue("true"));
         cliOptions.add(CliOption.newBoolean(DATE_TIME_PATTERN, "use pattern for date time parameters").defaultValue("true"));
+        cliOptions.add(CliOption.newBoolean(REACTIVE_CLIENT, "Generate a reactive WebClient based client for each API (spring-webflux library only)").defaultValue("false"));
 
         supportedLibraries.put(DEFAULT_LIBRARY, "Spring-boot Server application using the SpringFox integration.");
         supportedLibraries.put(SPRING_MVC_LIBRARY, "Spring-MVC Server application using the SpringFox integration.");
         supportedLibraries.put(SPRING_CLOUD_LIBRARY, "Spring-Cloud-Feign client with Spring-Boot auto-configured settings.");
+        supportedLibraries.put(SPRING_WEBFLUX_LIBRARY, "Spring-WebFlux reactive Server application returning Mono/Flux responses, with an optional WebClient based client.");
         setLibrary(DEFAULT_LIBRARY);
 
         CliOption library = new CliOption(CodegenConstants.LIBRARY, "library template (sub-template) to use");
@@ -178,6 +191,11 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
 
     @Override
     public void processOpts() {
+        // Reactor requires java 8, make it the default for the reactive library.
+        if (isSpringWebfluxLibrary() && !additionalProperties.containsKey(JAVA8_MODE) && !additionalProperties.containsKey(JAVA11_MODE)) {
+            additionalProperties.put(JAVA8_MODE, true);
+        }
+
         // Process java8 option before common java ones to change the default dateLibrary to java8.
         if (additionalProperties.containsKey(JAVA8_MODE)) {
             this.setJava8(Boolean.valueOf(additionalProperties.get(JAVA8_MODE).toString()));
@@ -280,13 +298,45 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
         }
         additionalProperties.put(DEFAULT_INTERFACES, this.defaultInterfaces);
 
+        processVirtualThreadsOpt();
+        if (this.virtualThreads && !isDefaultLibrary()) {
+            LOGGER.warn(VIRTUAL_THREADS + " is only supported by library " + DEFAULT_LIBRARY + ", option will be ignored.");
+            this.virtualThreads = false;
+            additionalProperties.put(VIRTUAL_THREADS, false);
+            additionalProperties.remove(JAVA21);
+        }
+
         if (additionalProperties.containsKey(SPRING_BOOT_VERSION)) {
             this.springBootVersion = additionalProperties.get(SPRING_BOOT_VERSION).toString();
+        } else if (this.virtualThreads) {
+            // first Spring Boot 2 line running on JDK 21
+            this.springBootVersion = virtualThreadsSpringBootVersion;
         }
         additionalProperties.put(SPRING_BOOT_VERSION, this.springBootVersion);
         if (springBootVersion.startsWith("2")) {
             additionalProperties.put(SPRING_BOOT_VERSION_2, true);
             this.setOpenFeign(true);
+        } else if (isSpringWebfluxLibrary()) {
+            throw new IllegalArgumentException(
+                    String.format("Can not generate code with library `%s` and `%s` %s, Spring Boot 2 is required.",
+                            SPRING_WEBFLUX_LIBRARY, SPRING_BOOT_VERSION, springBootVersion));
+        }
+
+        if (additionalProperties.containsKey(REACTIVE_CLIENT)) {
+            this.setReactiveClient(convertPropertyToBoolean(REACTIVE_CLIENT));
+        }
+        if (this.reactiveClient && !isSpringWebfluxLibrary()) {
+            LOGGER.warn(REACTIVE_CLIENT + " is only supported by library " + SPRING_WEBFLUX_LIBRARY + ", option will be ignored.");
+            this.reactiveClient = false;
+        }
+        writePropertyBack(REACTIVE_CLIENT, reactiveClient);
+
+        if (isSpringWebfluxLibrary() && (this.async || StringUtils.isNotBlank(this.responseWrapper))) {
+            LOGGER.warn("Library " + SPRING_WEBFLUX_LIBRARY + " returns Mono/Flux responses, options " + ASYNC + " and " + RESPONSE_WRAPPER + " will be ignored.");
+            this.async = false;
+            this.responseWrapper = "";
+            additionalProperties.remove(ASYNC);
+            additionalProperties.remove(RESPONSE_WRAPPER);
         }
 
         if (useBeanValidation) {
@@ -337,6 +387,10 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
                         (sourceFolder + File.separator + configPackage).replace(".", java.io.File.separator), "SwaggerUiConfiguration.java"));
                 supportingFiles.add(new SupportingFile("application.mustache",
                         ("src.main.resources").replace(".", java.io.File.separator), "application.properties"));
+                if (this.virtualThreads) {
+                    supportingFiles.add(new SupportingFile("virtualThreadsConfiguration.mustache",
+                            (sourceFolder + File.separator + configPackage).replace(".", java.io.File.separator), "VirtualThreadsConfiguration.java"));
+                }
             }
             if (isSpringMvcLibrary()) {
                 forceOas2();
@@ -351,6 +405,15 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
                 supportingFiles.add(new SupportingFile("application.properties.mustache",
                         ("src.main.resources").replace(".", java.io.File.separator), "swagger.properties"));
             }
+            if (isSpringWebfluxLibrary()) {
+                apiTestTemplateFiles.clear();
+                supportingFiles.add(new SupportingFile("swagger2SpringBoot.mustache",
+                        (sourceFolder + File.separator + basePackage).replace(".", java.io.File.separator), "Swagger2SpringBoot.java"));
+                supportingFiles.add(new SupportingFile("RFC3339DateFormat.mustache",
+                        (sourceFolder + File.separator + basePackage).replace(".", java.io.File.separator), "RFC3339DateFormat.java"));
+                supportingFiles.add(new SupportingFile("application.mustache",
+                        ("src.main.resources").replace(".", java.io.File.separator), "application.properties"));
+            }
             if (isSpringCloudLibrary()) {
                 forceOas2();
                 supportingFiles.add(new SupportingFile("apiKeyRequestInterceptor.mustache",
@@ -383,16 +446,19 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
                         (sourceFolder + File.separator + apiPackage).replace(".", java.io.File.separator), "ApiResponseMessage.java"));
                 supportingFiles.add(new SupportingFile("notFoundException.mustache",
                         (sourceFolder + File.separator + apiPackage).replace(".", java.io.File.separator), "NotFoundException.java"));
-                supportingFiles.add(new SupportingFile("apiOriginFilter.mustache",
-                        (sourceFolder + File.separator + apiPackage).replace(".", java.io.File.separator), "ApiOriginFilter.java"));
-                supportingFiles.add(new SupportingFile("swaggerDocumentationConfig.mustache",
-                        (sourceFolder + File.separator + configPackage).replace(".", java.io.File.separator), "SwaggerDocumentationConfig.java"));
+                if (!isSpringWebfluxLibrary()) {
+                    // servlet filter and springfox docket, the reactive library relies on springdoc instead
+                    supportingFiles.add(new SupportingFile("apiOriginFilter.mustache",
+                            (sourceFolder + File.separator + apiPackage).replace(".", java.io.File.separator), "ApiOriginFilter.java"));
+                    supportingFiles.add(new SupportingFile("swaggerDocumentationConfig.mustache",
+                            (sourceFolder + File.separator + configPackage).replace(".", java.io.File.separator), "SwaggerDocumentationConfig.java"));
+                }
                 supportingFiles.add(new SupportingFile("LocalDateConverter.mustache",
                     (sourceFolder + File.separator + configPackage).replace(".", java.io.File.separator), "LocalDateConverter.java"));
                 supportingFiles.add(new SupportingFile("LocalDateTimeConverter.mustache",
                     (sourceFolder + File.separator + configPackage).replace(".", java.io.File.separator), "LocalDateTimeConverter.java"));
             }
-        } else if ( this.swaggerDocketConfig && !isSpringCloudLibrary()) {
+        } else if ( this.swaggerDocketConfig && !isSpringCloudLibrary() && !isSpringWebfluxLibrary()) {
             supportingFiles.add(new SupportingFile("swaggerDocumentationConfig.mustache",
                     (sourceFolder + File.separator + configPackage).replace(".", java.io.File.separator), "SwaggerDocumentationConfig.java"));
         }
@@ -400,6 +466,9 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
         if (this.interfaceOnly) {
             apiTestTemplateFiles.clear();
         }
+        if (this.reactiveClient) {
+            apiTemplateFiles.put("apiClient.mustache", "Client.java");
+        }
         if ("threetenbp".equals(dateLibrary)) {
             supportingFiles.add(new SupportingFile("customInstantDeserializer.mustache",
                     (sourceFolder + File.separator + configPackage).replace(".", java.io.File.separator), "CustomInstantDeserializer.java"));
@@ -409,6 +478,16 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
             }
         }
 
+        processJacksonCodecsOpt();
+        if (this.jacksonCodecs) {
+            addJsonCodecModule();
+            // spring-mvc installs the module with the ObjectMapper builder of its configuration
+            if (!isSpringMvcLibrary()) {
+                supportingFiles.add(new SupportingFile("jsonCodecConfiguration.mustache",
+                        (sourceFolder + File.separator + configPackage).replace(".", java.io.File.separator), "JsonCodecConfiguration.java"));
+            }
+        }
+
         if ((!this.delegatePattern && (this.java8 || this.java11)) || this.delegateMethod) {
             additionalProperties.put("jdk8-no-delegate", true);
         }
@@ -491,7 +570,7 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
 
     @Override
     public void addOperationToGroup(String tag, String resourcePath, Operation operation, CodegenOperation co, Map<String, List<CodegenOperation>> operations) {
-        if((isDefaultLibrary() || isSpringMvcLibrary()) && !useTags) {
+        if((isDefaultLibrary() || isSpringMvcLibrary() || isSpringWebfluxLibrary()) && !useTags) {
             String basePath = resourcePath;
             if (basePath.startsWith("/")) {
                 basePath = basePath.substring(1);
@@ -555,31 +634,33 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
         }
 
         this.additionalProperties.put("serverPort", port);
-        if (openAPI.getPaths() != null) {
-            for (String pathname : openAPI.getPaths().keySet()) {
-                PathItem pathItem = openAPI.getPaths().get(pathname);
-                final List<Operation> operations = pathItem.readOperations();
-                for (Operation operation : operations) {
-                    if (operation.getTags() != null) {
-                        List<Map<String, String>> tags = new ArrayList<>();
-                        for (String tag : operation.getTags()) {
-                            Map<String, String> value = new HashMap<>();
-                            value.put("tag", tag);
-                            value.put("hasMore", "true");
-                            tags.add(value);
-                        }
-                        if (tags.size() > 0) {
-                            tags.get(tags.size() - 1).remove("hasMore");
-                        }
-                        if (operation.getTags().size() > 0) {
-                            String tag = operation.getTags().get(0);
-                            operation.setTags(Arrays.asList(tag));
-                        }
-                        operation.addExtension("x-tags", tags);
+    }
+
+    @Override
+    protected void addPreprocessVisitors(OpenAPI openAPI, List<OpenAPIVisitor> visitors) {
+        super.addPreprocessVisitors(openAPI, visitors);
+        visitors.add(new OpenAPIVisitor() {
+            @Override
+            public void visitOperation(String pathname, PathItem.HttpMethod method, Operation operation, PathItem pathItem) {
+                if (operation.getTags() != null) {
+                    List<Map<String, String>> tags = new ArrayList<>();
+                    for (String tag : operation.getTags()) {
+                        Map<String, String> value = new HashMap<>();
+                        value.put("tag", tag);
+                        value.put("hasMore", "true");
+                        tags.add(value);
+                    }
+                    if (tags.size() > 0) {
+                        tags.get(tags.size() - 1).remove("hasMore");
                     }
+                    if (operation.getTags().size() > 0) {
+                        String tag = operation.getTags().get(0);
+                        operation.setTags(Arrays.asList(tag));
+                    }
+                    operation.addExtension("x-tags", tags);
                 }
             }
-        }
+        });
     }
 
     @Override
@@ -587,7 +668,14 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
         Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
         if (operations != null) {
             List<CodegenOperation> ops = (List<CodegenOperation>) operations.get("operation");
+            if (isSpringWebfluxLibrary()) {
+                // list responses are emitted as Flux, element by element
+                markStreamListResponses(ops);
+            }
             for (final CodegenOperation operation : ops) {
+                if (isSpringWebfluxLibrary()) {
+                    markFormEncoding(operation);
+                }
                 List<CodegenResponse> responses = operation.responses;
                 if (responses != null) {
                     for (final CodegenResponse resp : responses) {
@@ -696,6 +784,28 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
         }
     }
 
+    /**
+     * Flags operations with form parameters by encoding, so the reactive client picks the matching body inserter.
+     *
+     * @param operation operation to flag
+     */
+    private void markFormEncoding(CodegenOperation operation) {
+        if (operation.formParams == null || operation.formParams.isEmpty()) {
+            return;
+        }
+        boolean multipart = false;
+        if (operation.consumes != null) {
+            for (Map<String, String> consume : operation.consumes) {
+                final String mediaType = consume.get("mediaType");
+                if (mediaType != null && mediaType.startsWith("multipart/")) {
+                    multipart = true;
+                    break;
+                }
+            }
+        }
+        operation.getVendorExtensions().put(multipart ? MULTIPART_FORM_EXT_NAME : URLENCODED_FORM_EXT_NAME, Boolean.TRUE);
+    }
+
     /**
      * This method removes header parameters from the list of parameters and also
      * corrects last allParams hasMore state.
@@ -754,6 +864,10 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
         return library.equals(SPRING_MVC_LIBRARY);
     }
 
+    private boolean isSpringWebfluxLibrary() {
+        return SPRING_WEBFLUX_LIBRARY.equals(library);
+    }
+
     private boolean isDefaultLibrary() {
         return library.equals(DEFAULT_LIBRARY);
     }
@@ -768,7 +882,7 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
                 }
             }
         }
-        return objs;
+        return super.postProcessSupportingFileData(objs);
     }
 
     @Override
@@ -983,4 +1097,13 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
     public void setThrowsException(boolean throwsException) {
         this.throwsException = throwsException;
     }
+
+    public void setReactiveClient(boolean reactiveClient) {
+        this.reactiveClient = reactiveClient;
+    }
+
+    @Override
+    protected boolean isJsonCodecEnumByText() {
+        return true;
+    }
 }
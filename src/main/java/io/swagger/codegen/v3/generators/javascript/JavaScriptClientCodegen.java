@@ -11,6 +11,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.info.Info;
@@ -1457,7 +1458,7 @@ public class JavaScriptClientCodegen extends DefaultCodegenConfig {
 
     @Override
     public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+        return TextEscaper.BLOCK_COMMENT.escape(input);
     }
 
 }
@@ -15,9 +15,13 @@ import java.util.Map;
 public class KotlinClientCodegen extends AbstractKotlinCodegen {
 
     public static final String DATE_LIBRARY = "dateLibrary";
+    public static final String MOSHI_CODEGEN = "moshiCodegen";
+    public static final String COROUTINES = "coroutines";
     private static Logger LOGGER = LoggerFactory.getLogger(KotlinClientCodegen.class);
 
     protected String dateLibrary = DateLibrary.JAVA8.value;
+    protected boolean moshiCodegen = false;
+    protected boolean coroutines = false;
 
     public enum DateLibrary {
         STRING("string"),
@@ -55,6 +59,9 @@ public class KotlinClientCodegen extends AbstractKotlinCodegen {
         dateOptions.put(DateLibrary.JAVA8.value, "Java 8 native JSR310");
         dateLibrary.setEnum(dateOptions);
         cliOptions.add(dateLibrary);
+
+        addSwitch(MOSHI_CODEGEN, "Annotate the models for the Moshi code generator (kapt) instead of using reflection to serialize them.", moshiCodegen);
+        addSwitch(COROUTINES, "Generate a suspending variant of every API method, which does not block the calling thread.", coroutines);
     }
 
     @Override
@@ -78,6 +85,14 @@ public class KotlinClientCodegen extends AbstractKotlinCodegen {
         this.dateLibrary = library;
     }
 
+    public void setMoshiCodegen(boolean moshiCodegen) {
+        this.moshiCodegen = moshiCodegen;
+    }
+
+    public void setCoroutines(boolean coroutines) {
+        this.coroutines = coroutines;
+    }
+
     @Override
     public void processOpts() {
         super.processOpts();
@@ -86,6 +101,14 @@ public class KotlinClientCodegen extends AbstractKotlinCodegen {
             setDateLibrary(additionalProperties.get(DATE_LIBRARY).toString());
         }
 
+        if (additionalProperties.containsKey(MOSHI_CODEGEN)) {
+            setMoshiCodegen(convertPropertyToBooleanAndWriteBack(MOSHI_CODEGEN));
+        }
+
+        if (additionalProperties.containsKey(COROUTINES)) {
+            setCoroutines(convertPropertyToBooleanAndWriteBack(COROUTINES));
+        }
+
         if (DateLibrary.THREETENBP.value.equals(dateLibrary)) {
             additionalProperties.put(DateLibrary.THREETENBP.value, true);
             typeMapping.put("date", "LocalDate");
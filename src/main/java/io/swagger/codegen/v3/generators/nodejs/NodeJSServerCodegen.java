@@ -11,12 +11,14 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import io.swagger.codegen.v3.generators.OperationParameters;
+import io.swagger.codegen.v3.generators.util.OpenAPIVisitor;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.codegen.v3.utils.URLPathUtil;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
-import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -29,11 +31,14 @@ import java.net.URL;
 import java.util.*;
 import java.util.Map.Entry;
 
+import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
+
 public class NodeJSServerCodegen extends DefaultCodegenConfig {
     private static final Logger LOGGER = LoggerFactory.getLogger(NodeJSServerCodegen.class);
     protected String implFolder = "service";
     public static final String GOOGLE_CLOUD_FUNCTIONS = "googleCloudFunctions";
     public static final String EXPORTED_NAME = "exportedName";
+    public static final String COMPILED_ROUTER = "compiledRouter";
 
     protected String apiVersion = "1.0.0";
     protected int serverPort = 8080;
@@ -41,6 +46,8 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
 
     protected boolean googleCloudFunctions;
     protected String exportedName;
+    protected boolean compiledRouter;
+    protected String basePath;
 
     public NodeJSServerCodegen() {
         super();
@@ -98,6 +105,11 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
                 "When the generated code will be deployed to Google Cloud Functions, this option can be "
                         + "used to update the name of the exported function. By default, it refers to the "
                         + "basePath. This does not affect normal standalone nodejs server code."));
+        cliOptions.add(CliOption.newBoolean(COMPILED_ROUTER,
+                "Generate a dispatcher resolving requests through a route trie precomputed from the API paths, "
+                        + "instead of matching every route in the router middleware. The dispatcher converts parameters to "
+                        + "their declared types and rejects missing required ones, but does not validate request bodies "
+                        + "against their schemas like oas3-tools."));
     }
 
     @Override
@@ -213,6 +225,14 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
         exportedName = name;
     }
 
+    public boolean getCompiledRouter() {
+        return compiledRouter;
+    }
+
+    public void setCompiledRouter(boolean compiledRouter) {
+        this.compiledRouter = compiledRouter;
+    }
+
     @Override
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
         @SuppressWarnings("unchecked")
@@ -282,6 +302,99 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
         return opsByPathList;
     }
 
+    private RouteTrie buildRouteTrie(Map<String, Object> objs) {
+        final RouteTrie routeTrie = new RouteTrie();
+        final String prefix = basePath == null || "/".equals(basePath) ? "" : StringUtils.removeEnd(basePath, "/");
+        for (Map<String, Object> operations : getOperations(objs)) {
+            @SuppressWarnings("unchecked")
+            List<CodegenOperation> ops = (List<CodegenOperation>) operations.get("operation");
+            if (ops == null) {
+                continue;
+            }
+            for (CodegenOperation op : ops) {
+                final Map<String, Object> route = new LinkedHashMap<>();
+                route.put("controller", operations.get("classname"));
+                route.put("operation", op.nickname);
+                final List<String> pathParams = routeTrie.add(op.httpMethod.toLowerCase(), prefix + op.path, route);
+
+                // the controller exports the function of the last content, so dispatch with its parameters
+                final List<CodegenParameter> parameters = op.getContents() == null || op.getContents().isEmpty()
+                        ? Collections.<CodegenParameter>emptyList()
+                        : op.getContents().get(op.getContents().size() - 1).getParameters();
+                final List<Map<String, Object>> args = new ArrayList<>();
+                boolean readBody = false;
+                for (CodegenParameter parameter : parameters) {
+                    final Map<String, Object> arg = new LinkedHashMap<>();
+                    if (getBooleanValue(parameter, CodegenConstants.IS_PATH_PARAM_EXT_NAME)) {
+                        arg.put("in", "path");
+                        arg.put("name", parameter.baseName);
+                        arg.put("i", pathParams.indexOf(parameter.baseName));
+                    } else if (getBooleanValue(parameter, CodegenConstants.IS_QUERY_PARAM_EXT_NAME)) {
+                        arg.put("in", "query");
+                        arg.put("name", parameter.baseName);
+                    } else if (getBooleanValue(parameter, CodegenConstants.IS_HEADER_PARAM_EXT_NAME)) {
+                        arg.put("in", "header");
+                        arg.put("name", parameter.baseName.toLowerCase());
+                    } else if (getBooleanValue(parameter, CodegenConstants.IS_COOKIE_PARAM_EXT_NAME)) {
+                        arg.put("in", "cookie");
+                        arg.put("name", parameter.baseName);
+                    } else if (getBooleanValue(parameter, CodegenConstants.IS_FORM_PARAM_EXT_NAME)) {
+                        arg.put("in", "form");
+                        arg.put("name", parameter.baseName);
+                        readBody = true;
+                    } else {
+                        arg.put("in", "body");
+                        readBody = true;
+                    }
+                    if (parameter.required) {
+                        arg.put("required", true);
+                    }
+                    if (!"body".equals(arg.get("in"))) {
+                        addRouteArgType(arg, parameter);
+                    }
+                    args.add(arg);
+                }
+                route.put("args", args);
+                route.put("body", readBody);
+            }
+        }
+        return routeTrie;
+    }
+
+    /**
+     * Adds the type the dispatcher converts a parameter value to. List parameters get the delimiter of their values,
+     * or "multi" for a query parameter repeated once per value.
+     */
+    private static void addRouteArgType(Map<String, Object> arg, CodegenParameter parameter) {
+        VendorExtendable type = parameter;
+        if (getBooleanValue(parameter, CodegenConstants.IS_LIST_CONTAINER_EXT_NAME) && parameter.items != null) {
+            type = parameter.items;
+            String delimiter = ",";
+            if ("query".equals(arg.get("in")) || "form".equals(arg.get("in"))) {
+                if ("multi".equals(parameter.collectionFormat)) {
+                    delimiter = "multi";
+                } else if ("pipe".equals(parameter.collectionFormat)) {
+                    delimiter = "|";
+                } else if ("space".equals(parameter.collectionFormat)) {
+                    delimiter = " ";
+                } else if ("tsv".equals(parameter.collectionFormat)) {
+                    delimiter = "\t";
+                }
+            }
+            arg.put("array", delimiter);
+        }
+        if (getBooleanValue(type, CodegenConstants.IS_INTEGER_EXT_NAME) || getBooleanValue(type, CodegenConstants.IS_LONG_EXT_NAME)) {
+            arg.put("type", "integer");
+        } else if (getBooleanValue(type, CodegenConstants.IS_NUMBER_EXT_NAME) || getBooleanValue(type, CodegenConstants.IS_FLOAT_EXT_NAME)
+                || getBooleanValue(type, CodegenConstants.IS_DOUBLE_EXT_NAME)) {
+            arg.put("type", "number");
+        } else if (getBooleanValue(type, CodegenConstants.IS_BOOLEAN_EXT_NAME)) {
+            arg.put("type", "boolean");
+        } else {
+            arg.put("type", "string");
+        }
+    }
+
     @Override
     public void processOpts() {
         super.processOpts();
@@ -295,6 +408,11 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
             setExportedName((String)additionalProperties.get(EXPORTED_NAME));
         }
 
+        if (additionalProperties.containsKey(COMPILED_ROUTER)) {
+            setCompiledRouter(Boolean.valueOf(additionalProperties.get(COMPILED_ROUTER).toString()));
+        }
+        additionalProperties.put(COMPILED_ROUTER, getCompiledRouter());
+
         /*
          * Supporting Files.  You can write single files for the generator with the
          * entire object tree available.  If the input file has a suffix of `.mustache
@@ -312,6 +430,9 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
         }
         writeOptional(outputFolder, new SupportingFile("package.mustache", "", "package.json"));
         writeOptional(outputFolder, new SupportingFile("README.mustache", "", "README.md"));
+        if (getCompiledRouter()) {
+            supportingFiles.add(new SupportingFile("router.mustache", "utils", "router.js"));
+        }
         if (System.getProperty("noservice") == null) {
             apiTemplateFiles.put(
                     "service.mustache",   // the template to use
@@ -331,6 +452,7 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
             host = url.getHost();
             basePath = url.getPath();
         }
+        this.basePath = basePath;
         this.additionalProperties.put("serverPort", port);
 
         if (openAPI.getInfo() != null) {
@@ -363,33 +485,32 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
             }
         }
 
+        visitOpenAPI(openAPI);
+    }
+
+    @Override
+    protected void addPreprocessVisitors(OpenAPI openAPI, List<OpenAPIVisitor> visitors) {
+        super.addPreprocessVisitors(openAPI, visitors);
         // need vendor extensions for x-swagger-router-controller
-        Paths paths = openAPI.getPaths();
-        if(paths != null) {
-            for(String pathname : paths.keySet()) {
-                PathItem path = paths.get(pathname);
-                Map<PathItem.HttpMethod, Operation> operationMap = path.readOperationsMap();
-                if(operationMap != null) {
-                    for(PathItem.HttpMethod method : operationMap.keySet()) {
-                        Operation operation = operationMap.get(method);
-                        String tag = "default";
-                        if(operation.getTags() != null && operation.getTags().size() > 0) {
-                            tag = toApiName(operation.getTags().get(0));
-                        }
-                        if(operation.getOperationId() == null) {
-                            operation.setOperationId(getOrGenerateOperationId(operation, pathname, method.toString()));
-                        }
-
-                        if (operation.getExtensions() == null) {
-                            operation.setExtensions(new HashMap<>());
-                        }
-                        if(operation.getExtensions() != null && operation.getExtensions().get("x-swagger-router-controller") == null) {
-                            operation.getExtensions().put("x-swagger-router-controller", sanitizeTag(tag));
-                        }
-                    }
+        visitors.add(new OpenAPIVisitor() {
+            @Override
+            public void visitOperation(String pathname, PathItem.HttpMethod method, Operation operation, PathItem pathItem) {
+                String tag = "default";
+                if(operation.getTags() != null && operation.getTags().size() > 0) {
+                    tag = toApiName(operation.getTags().get(0));
+                }
+                if(operation.getOperationId() == null) {
+                    operation.setOperationId(getOrGenerateOperationId(operation, pathname, method.toString()));
+                }
+
+                if (operation.getExtensions() == null) {
+                    operation.setExtensions(new HashMap<>());
+                }
+                if(operation.getExtensions() != null && operation.getExtensions().get("x-swagger-router-controller") == null) {
+                    operation.getExtensions().put("x-swagger-router-controller", sanitizeTag(tag));
                 }
             }
-        }
+        });
     }
 
     @Override
@@ -417,6 +538,20 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
             List<Map<String, Object>> opsByPathList = sortOperationsByPath(ops);
             operations.put("operationsByPath", opsByPathList);
         }
+        if (getCompiledRouter()) {
+            final RouteTrie routeTrie = buildRouteTrie(objs);
+            final Set<Object> controllers = new LinkedHashSet<>();
+            for (Map<String, Object> route : routeTrie.getRoutes()) {
+                controllers.add(route.get("controller"));
+            }
+            try {
+                objs.put("routeTrie", Json.pretty().writeValueAsString(routeTrie.toMap()));
+                objs.put("routeTable", Json.pretty().writeValueAsString(routeTrie.getRoutes()));
+            } catch (JsonProcessingException e) {
+                LOGGER.error(e.getMessage(), e);
+            }
+            objs.put("routeControllers", new ArrayList<>(controllers));
+        }
         return super.postProcessSupportingFileData(objs);
     }
 
@@ -427,7 +562,7 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
 
     @Override
     public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+        return TextEscaper.BLOCK_COMMENT.escape(input);
     }
 
     @Override
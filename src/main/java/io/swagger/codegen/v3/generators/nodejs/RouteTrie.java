@@ -0,0 +1,131 @@
+package io.swagger.codegen.v3.generators.nodejs;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Radix trie of request paths, built at generation time and written as a plain object literal into the
+ * generated router module. Static path segments are keyed by their value, runs of static segments with a
+ * single child are collapsed into one edge, and templated segments are stored as parameter edges with
+ * their literal prefix and suffix, so the generated server resolves a route with one walk over the path.
+ */
+public class RouteTrie {
+
+    private final Node root = new Node();
+    private final List<Map<String, Object>> routes = new ArrayList<>();
+
+    /**
+     * Registers a route.
+     *
+     * @param method lower case http method
+     * @param path   path template, e.g. <code>/pet/{petId}</code>
+     * @param route  route descriptor written to the route table; its index is stored in the trie
+     * @return the names of the path parameters in the order they appear in the path
+     */
+    public List<String> add(String method, String path, Map<String, Object> route) {
+        final List<String> pathParams = new ArrayList<>();
+        Node node = root;
+        for (String segment : split(path)) {
+            final int open = segment.indexOf('{');
+            final int close = segment.lastIndexOf('}');
+            if (open < 0 || close < open) {
+                node = node.statics.computeIfAbsent(segment, key -> new Node());
+                continue;
+            }
+            final String prefix = segment.substring(0, open);
+            final String suffix = segment.substring(close + 1);
+            pathParams.add(segment.substring(open + 1, close));
+            node = node.params.computeIfAbsent(prefix + '{' + suffix, key -> new Node(prefix, suffix));
+        }
+        if (node.handlers.containsKey(method)) {
+            return pathParams;
+        }
+        node.handlers.put(method, routes.size());
+        routes.add(route);
+        return pathParams;
+    }
+
+    public List<Map<String, Object>> getRoutes() {
+        return routes;
+    }
+
+    /**
+     * @return the compressed trie as nested maps, ready to be serialized to JSON
+     */
+    public Map<String, Object> toMap() {
+        return toMap(root);
+    }
+
+    private static Map<String, Object> toMap(Node node) {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        if (!node.statics.isEmpty()) {
+            final Map<String, Object> statics = new LinkedHashMap<>();
+            for (Map.Entry<String, Node> entry : node.statics.entrySet()) {
+                final List<String> label = new ArrayList<>();
+                label.add(entry.getKey());
+                Node child = entry.getValue();
+                while (child.handlers.isEmpty() && child.params.isEmpty() && child.statics.size() == 1) {
+                    final Map.Entry<String, Node> next = child.statics.entrySet().iterator().next();
+                    label.add(next.getKey());
+                    child = next.getValue();
+                }
+                final Map<String, Object> edge = new LinkedHashMap<>();
+                edge.put("l", label);
+                edge.put("n", toMap(child));
+                statics.put(entry.getKey(), edge);
+            }
+            result.put("s", statics);
+        }
+        if (!node.params.isEmpty()) {
+            final List<Map<String, Object>> params = new ArrayList<>();
+            for (Node child : node.params.values()) {
+                final Map<String, Object> edge = new LinkedHashMap<>();
+                edge.put("pre", child.prefix);
+                edge.put("suf", child.suffix);
+                edge.put("n", toMap(child));
+                params.add(edge);
+            }
+            result.put("p", params);
+        }
+        if (!node.handlers.isEmpty()) {
+            result.put("h", node.handlers);
+        }
+        return result;
+    }
+
+    private static List<String> split(String path) {
+        final List<String> segments = new ArrayList<>();
+        int start = path.startsWith("/") ? 1 : 0;
+        if (start == path.length()) {
+            return segments;
+        }
+        while (true) {
+            final int end = path.indexOf('/', start);
+            if (end < 0) {
+                segments.add(path.substring(start));
+                return segments;
+            }
+            segments.add(path.substring(start, end));
+            start = end + 1;
+        }
+    }
+
+    private static class Node {
+        private final String prefix;
+        private final String suffix;
+        private final Map<String, Node> statics = new LinkedHashMap<>();
+        private final Map<String, Node> params = new LinkedHashMap<>();
+        private final Map<String, Integer> handlers = new LinkedHashMap<>();
+
+        private Node() {
+            this(null, null);
+        }
+
+        private Node(String prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 
 import java.io.File;
 import java.util.Arrays;
@@ -26,6 +27,7 @@ import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBoo
 
 public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
     private static Logger LOGGER = LoggerFactory.getLogger(AbstractPhpCodegen.class);
+    private static final TextEscaper BLOCK_COMMENT_END_ESCAPER = new TextEscaper(new String[]{"*/"}, new String[]{""});
 
     public static final String VARIABLE_NAMING_CONVENTION = "variableNamingConvention";
     public static final String PACKAGE_PATH = "packagePath";
@@ -660,7 +662,7 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
 
     @Override
     public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "");
+        return BLOCK_COMMENT_END_ESCAPER.escape(input);
     }
 
     protected String extractSimpleName(String phpClassName) {
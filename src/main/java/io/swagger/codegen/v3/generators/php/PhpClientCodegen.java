@@ -10,6 +10,8 @@ import io.swagger.codegen.v3.CodegenSecurity;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
+import io.swagger.codegen.v3.utils.ModelUtils;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
 import io.swagger.v3.oas.models.media.DateSchema;
@@ -34,6 +36,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
@@ -46,6 +49,17 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
     public static final String SRC_BASE_PATH = "srcBasePath";
     public static final String COMPOSER_VENDOR_NAME = "composerVendorName";
     public static final String COMPOSER_PROJECT_NAME = "composerProjectName";
+    public static final String PERSISTENT_CONNECTIONS = "persistentConnections";
+
+    private static final Map<String, String> CAST_FUNCTIONS = new HashMap<>();
+
+    static {
+        CAST_FUNCTIONS.put("int", "intval");
+        CAST_FUNCTIONS.put("float", "floatval");
+        CAST_FUNCTIONS.put("double", "floatval");
+        CAST_FUNCTIONS.put("string", "strval");
+        CAST_FUNCTIONS.put("bool", "boolval");
+    }
     protected String invokerPackage = "Swagger\\Client";
     protected String composerVendorName = null;
     protected String composerProjectName = null;
@@ -59,6 +73,7 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
     protected String variableNamingConvention= "snake_case";
     protected String apiDocPath = docsBasePath + "/" + apiDirName;
     protected String modelDocPath = docsBasePath + "/" + modelDirName;
+    protected boolean persistentConnections = false;
 
     public PhpClientCodegen() {
         super();
@@ -155,6 +170,8 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
         cliOptions.add(new CliOption(CodegenConstants.ARTIFACT_VERSION, "The version to use in the composer package version field. e.g. 1.2.3"));
         cliOptions.add(new CliOption(CodegenConstants.HIDE_GENERATION_TIMESTAMP, "hides the timestamp when files were generated")
                 .defaultValue(Boolean.TRUE.toString()));
+        cliOptions.add(CliOption.newBoolean(PERSISTENT_CONNECTIONS, "Share one keep-alive Guzzle client between the API "
+                + "instances, and generate Batch methods sending concurrent requests through a Guzzle Pool."));
     }
 
     public String getPackagePath() {
@@ -292,6 +309,10 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
             additionalProperties.put(CodegenConstants.ARTIFACT_VERSION, artifactVersion);
         }
 
+        if (additionalProperties.containsKey(PERSISTENT_CONNECTIONS)) {
+            this.setPersistentConnections(convertPropertyToBooleanAndWriteBack(PERSISTENT_CONNECTIONS));
+        }
+
         if (additionalProperties.containsKey(VARIABLE_NAMING_CONVENTION)) {
             this.setParameterNamingConvention((String) additionalProperties.get(VARIABLE_NAMING_CONVENTION));
         }
@@ -322,6 +343,9 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
         supportingFiles.add(new SupportingFile("ObjectSerializer.mustache", toPackagePath(invokerPackage, srcBasePath), "ObjectSerializer.php"));
         supportingFiles.add(new SupportingFile("ModelInterface.mustache", toPackagePath(modelPackage, srcBasePath), "ModelInterface.php"));
         supportingFiles.add(new SupportingFile("HeaderSelector.mustache", toPackagePath(invokerPackage, srcBasePath), "HeaderSelector.php"));
+        if (persistentConnections) {
+            supportingFiles.add(new SupportingFile("ClientFactory.mustache", toPackagePath(invokerPackage, srcBasePath), "ClientFactory.php"));
+        }
         supportingFiles.add(new SupportingFile("composer.mustache", getPackagePath(), "composer.json"));
         supportingFiles.add(new SupportingFile("README.mustache", getPackagePath(), "README.md"));
         supportingFiles.add(new SupportingFile("phpunit.xml.mustache", getPackagePath(), "phpunit.xml.dist"));
@@ -444,6 +468,10 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
         this.artifactVersion = artifactVersion;
     }
 
+    public void setPersistentConnections(boolean persistentConnections) {
+        this.persistentConnections = persistentConnections;
+    }
+
     public void setPackagePath(String packagePath) {
         this.packagePath = packagePath;
     }
@@ -751,6 +779,112 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
         return postProcessModelsEnum(objs);
     }
 
+    @Override
+    public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
+        final Map<String, Object> processed = super.postProcessAllModels(objs);
+        final List<CodegenModel> models = new ArrayList<>();
+        final Set<String> enumTypes = new HashSet<>();
+        for (String name : processed.keySet()) {
+            final CodegenModel model = ModelUtils.getModelByName(name, processed);
+            if (model == null) {
+                continue;
+            }
+            models.add(model);
+            if (getBooleanValue(model, CodegenConstants.IS_ENUM_EXT_NAME)) {
+                enumTypes.add("\\" + modelPackage + "\\" + model.classname);
+            }
+        }
+        // the conversions of the static fromArray and toArray serializers of the models, on $value
+        for (CodegenModel model : models) {
+            for (CodegenProperty property : model.vars) {
+                final String fromArray = toFromArray(property.datatype, "$value", 0, enumTypes);
+                final String toArray = toToArray(property.datatype, "$value", 0, property.dataFormat, enumTypes);
+                property.vendorExtensions.put("x-from-array", fromArray == null ? "$value" : fromArray);
+                property.vendorExtensions.put("x-to-array", toArray == null ? "$value" : toArray);
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * Returns the expression converting a value decoded by json_decode to the given type, or null when the value is
+     * used as is.
+     */
+    private String toFromArray(String type, String value, int depth, Set<String> enumTypes) {
+        final String itemType = toItemType(type);
+        if (itemType != null) {
+            final String item = toFromArray(itemType, "$v" + depth, depth + 1, enumTypes);
+            final String array = "(array) " + value;
+            return item == null ? array : "array_map(" + toCallable(itemType, item, depth, "::fromArray") + ", " + array + ")";
+        }
+        if ("\\DateTime".equals(type)) {
+            // an empty string would be read as the current time
+            return "empty(" + value + ") ? null : new \\DateTime(" + value + ")";
+        }
+        if ("object".equals(type)) {
+            return "(array) " + value;
+        }
+        if (CAST_FUNCTIONS.containsKey(type)) {
+            return "(" + type + ") " + value;
+        }
+        if (languageSpecificPrimitives.contains(type) || "\\SplFileObject".equals(type) || "mixed".equals(type)) {
+            return null;
+        }
+        return type + "::fromArray(" + value + ")";
+    }
+
+    /**
+     * Returns the expression converting a value of the given type to its form for json_encode, or null when the value
+     * is used as is.
+     */
+    private String toToArray(String type, String value, int depth, String format, Set<String> enumTypes) {
+        final String itemType = toItemType(type);
+        if (itemType != null) {
+            final String item = toToArray(itemType, "$v" + depth, depth + 1, null, enumTypes);
+            final String array = item == null ? value : "array_map(" + toCallable(itemType, item, depth, null) + ", " + value + ")";
+            // maps are encoded as objects, even when they are empty
+            return type.startsWith("map[") ? "(object) " + array : array;
+        }
+        final String nullable = depth == 0 ? "" : "null === " + value + " ? null : ";
+        if ("\\DateTime".equals(type)) {
+            return nullable + value + "->format(" + ("date".equals(format) ? "'Y-m-d'" : "\\DateTime::ATOM") + ")";
+        }
+        if ("object".equals(type) || "mixed".equals(type)) {
+            return "ObjectSerializer::sanitizeForSerialization(" + value + ")";
+        }
+        if (languageSpecificPrimitives.contains(type) || "\\SplFileObject".equals(type)) {
+            return null;
+        }
+        if (enumTypes.contains(type)) {
+            return type + "::fromArray(" + value + ")";
+        }
+        return nullable + "(object) " + value + "->toArray()";
+    }
+
+    private static String toItemType(String type) {
+        if (type.endsWith("[]")) {
+            return type.substring(0, type.length() - 2);
+        }
+        if (type.startsWith("map[") && type.endsWith("]") && type.contains(",")) {
+            return type.substring(type.indexOf(',') + 1, type.length() - 1);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the callable applying the conversion of the items of a list or map, by name when it is a function or
+     * static method.
+     */
+    private static String toCallable(String itemType, String item, int depth, String staticMethod) {
+        if (item.startsWith("(") && CAST_FUNCTIONS.containsKey(itemType)) {
+            return "'" + CAST_FUNCTIONS.get(itemType) + "'";
+        }
+        if (staticMethod != null && item.equals(itemType + staticMethod + "($v" + depth + ")")) {
+            return "'" + itemType.substring(1) + staticMethod + "'";
+        }
+        return "static function ($v" + depth + ") { return " + item + "; }";
+    }
+
     @Override
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
         Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
@@ -771,7 +905,7 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
 
     @Override
     public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+        return TextEscaper.BLOCK_COMMENT.escape(input);
     }
 
     @Override
@@ -8,6 +8,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
 import io.swagger.v3.oas.models.media.DateSchema;
@@ -28,6 +29,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -36,9 +38,14 @@ import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBoo
 public class PythonClientCodegen extends DefaultCodegenConfig {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PythonClientCodegen.class);
+    private static final TextEscaper MULTILINE_STRING_ESCAPER = new TextEscaper(new String[]{"'''"}, new String[]{"'_'_'"});
 
     public static final String PACKAGE_URL = "packageUrl";
     public static final String DEFAULT_LIBRARY = "urllib3";
+    public static final String COMPILED_MODELS = "compiledModels";
+
+    private static final Pattern LIST_TYPE = Pattern.compile("list\\[(.*)\\]");
+    private static final Pattern DICT_TYPE = Pattern.compile("dict\\(([^,]*), (.*)\\)");
 
     protected String packageName; // e.g. petstore_api
     protected String packageVersion;
@@ -46,6 +53,7 @@ public class PythonClientCodegen extends DefaultCodegenConfig {
     protected String packageUrl;
     protected String apiDocPath = "docs/";
     protected String modelDocPath = "docs/";
+    protected boolean compiledModels = false;
 
     protected Map<Character, String> regexModifiers;
 
@@ -147,6 +155,8 @@ public class PythonClientCodegen extends DefaultCodegenConfig {
                 CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG_DESC).defaultValue(Boolean.TRUE.toString()));
         cliOptions.add(new CliOption(CodegenConstants.HIDE_GENERATION_TIMESTAMP, CodegenConstants.HIDE_GENERATION_TIMESTAMP_DESC)
                 .defaultValue(Boolean.TRUE.toString()));
+        cliOptions.add(CliOption.newBoolean(COMPILED_MODELS, "Generate models with __slots__ and from_dict functions "
+                + "whose type conversions are resolved at generation time, instead of deserializing them by reflection."));
 
         supportedLibraries.put("urllib3", "urllib3-based client");
         supportedLibraries.put("asyncio", "Asyncio-based client (python 3.5+)");
@@ -202,6 +212,10 @@ public class PythonClientCodegen extends DefaultCodegenConfig {
             setPackageUrl((String) additionalProperties.get(PACKAGE_URL));
         }
 
+        if (additionalProperties.containsKey(COMPILED_MODELS)) {
+            setCompiledModels(convertPropertyToBooleanAndWriteBack(COMPILED_MODELS));
+        }
+
         final String packageFolder = packageName.replace('.', File.separatorChar);
 
         supportingFiles.add(new SupportingFile("README.mustache", "", "README.md"));
@@ -223,6 +237,9 @@ public class PythonClientCodegen extends DefaultCodegenConfig {
         supportingFiles.add(new SupportingFile("travis.mustache", "", ".travis.yml"));
         supportingFiles.add(new SupportingFile("setup.mustache", "", "setup.py"));
         supportingFiles.add(new SupportingFile("api_client.mustache", packageFolder, "api_client.py"));
+        if (compiledModels) {
+            supportingFiles.add(new SupportingFile("model_codec.mustache", packageFolder, "model_codec.py"));
+        }
 
         if ("asyncio".equals(getLibrary())) {
             supportingFiles.add(new SupportingFile("asyncio/rest.mustache", packageFolder, "rest.py"));
@@ -282,7 +299,101 @@ public class PythonClientCodegen extends DefaultCodegenConfig {
     @Override
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
         // process enum in models
-        return postProcessModelsEnum(objs);
+        objs = postProcessModelsEnum(objs);
+        if (!compiledModels) {
+            return objs;
+        }
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> models = (List<Map<String, Object>>) objs.get("models");
+        for (Map<String, Object> model : models) {
+            final CodegenModel codegenModel = (CodegenModel) model.get("model");
+            for (CodegenProperty property : codegenModel.vars) {
+                final String fromJson = toFromJson(property.datatype, "value", 0);
+                if (fromJson != null) {
+                    property.vendorExtensions.put("x-from-json", fromJson);
+                }
+                final String toJson = toToJson(property.datatype, "value", 0);
+                if (toJson != null) {
+                    property.vendorExtensions.put("x-to-json", toJson);
+                }
+                final String toDict = toToDict(property.datatype, "value", 0);
+                if (toDict != null) {
+                    property.vendorExtensions.put("x-to-dict", toDict);
+                }
+            }
+        }
+        return objs;
+    }
+
+    /**
+     * Returns the expression converting the JSON form of a value of the given type, or null when it is used as is.
+     * Date and model conversions accept None, so that list items and map values need no check.
+     */
+    private String toFromJson(String type, String value, int depth) {
+        final Matcher list = LIST_TYPE.matcher(type);
+        if (list.matches()) {
+            final String item = toFromJson(list.group(1), "x" + depth, depth + 1);
+            return item == null ? null : "[" + item + " for x" + depth + " in " + value + "]";
+        }
+        final Matcher dict = DICT_TYPE.matcher(type);
+        if (dict.matches()) {
+            final String item = toFromJson(dict.group(2), "x" + depth, depth + 1);
+            return item == null ? null : "{k" + depth + ": " + item + " for k" + depth + ", x" + depth + " in " + value + ".items()}";
+        }
+        if ("date".equals(type) || "datetime".equals(type)) {
+            return "model_codec.parse_" + type + "(" + value + ")";
+        }
+        if (languageSpecificPrimitives.contains(type) || "file".equals(type)) {
+            return null;
+        }
+        return modelPackage + "." + type + ".from_dict(" + value + ")";
+    }
+
+    /**
+     * Returns the expression converting a value of the given type to its JSON form, or null when it is used as is.
+     */
+    private String toToJson(String type, String value, int depth) {
+        final Matcher list = LIST_TYPE.matcher(type);
+        if (list.matches()) {
+            final String item = toToJson(list.group(1), "x" + depth, depth + 1);
+            return item == null ? null : "[" + item + " for x" + depth + " in " + value + "]";
+        }
+        final Matcher dict = DICT_TYPE.matcher(type);
+        if (dict.matches()) {
+            final String item = toToJson(dict.group(2), "x" + depth, depth + 1);
+            return item == null ? null : "{k" + depth + ": " + item + " for k" + depth + ", x" + depth + " in " + value + ".items()}";
+        }
+        if ("date".equals(type) || "datetime".equals(type) || "object".equals(type)) {
+            return "model_codec.to_json(" + value + ")";
+        }
+        if (languageSpecificPrimitives.contains(type) || "file".equals(type)) {
+            return null;
+        }
+        return depth == 0 ? value + "._to_json()" : "model_codec.to_json(" + value + ")";
+    }
+
+    /**
+     * Returns the expression converting a value of the given type for to_dict, which only converts the models, or null
+     * when it is used as is.
+     */
+    private String toToDict(String type, String value, int depth) {
+        final Matcher list = LIST_TYPE.matcher(type);
+        if (list.matches()) {
+            final String item = toToDict(list.group(1), "x" + depth, depth + 1);
+            return item == null ? null : "[" + item + " for x" + depth + " in " + value + "]";
+        }
+        final Matcher dict = DICT_TYPE.matcher(type);
+        if (dict.matches()) {
+            final String item = toToDict(dict.group(2), "x" + depth, depth + 1);
+            return item == null ? null : "{k" + depth + ": " + item + " for k" + depth + ", x" + depth + " in " + value + ".items()}";
+        }
+        if ("object".equals(type)) {
+            return "model_codec.to_dict(" + value + ")";
+        }
+        if (languageSpecificPrimitives.contains(type) || "file".equals(type)) {
+            return null;
+        }
+        return depth == 0 ? value + ".to_dict()" : "model_codec.to_dict(" + value + ")";
     }
 
     @Override
@@ -579,6 +690,10 @@ public class PythonClientCodegen extends DefaultCodegenConfig {
         this.packageUrl = packageUrl;
     }
 
+    public void setCompiledModels(boolean compiledModels) {
+        this.compiledModels = compiledModels;
+    }
+
     /**
      * Generate Python package name from String `packageName`
      *
@@ -719,6 +834,6 @@ public class PythonClientCodegen extends DefaultCodegenConfig {
     @Override
     public String escapeUnsafeCharacters(String input) {
         // remove multiline comment
-        return input.replace("'''", "'_'_'");
+        return MULTILINE_STRING_ESCAPER.escape(input);
     }
 }
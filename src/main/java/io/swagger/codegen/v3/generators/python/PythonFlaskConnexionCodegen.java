@@ -14,11 +14,15 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.OpenAPIVisitor;
+import io.swagger.codegen.v3.generators.util.OpenAPIWalker;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +45,7 @@ import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBoo
 public class PythonFlaskConnexionCodegen extends DefaultCodegenConfig {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PythonFlaskConnexionCodegen.class);
+    private static final TextEscaper MULTILINE_STRING_ESCAPER = new TextEscaper(new String[]{"'''"}, new String[]{"'_'_'"});
 
     public static final String CONTROLLER_PACKAGE = "controllerPackage";
     public static final String DEFAULT_CONTROLLER = "defaultController";
@@ -325,8 +330,6 @@ public class PythonFlaskConnexionCodegen extends DefaultCodegenConfig {
     @Override
     public void preprocessOpenAPI(OpenAPI openAPI) {
         super.preprocessOpenAPI(openAPI);
-        final Paths paths = openAPI.getPaths();
-        addRouterControllerExtensions(paths);
         final Map<String, SecurityScheme> securitySchemes = openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null;
         addSecurityExtensions(securitySchemes);
     }
@@ -639,7 +642,7 @@ public class PythonFlaskConnexionCodegen extends DefaultCodegenConfig {
     @Override
     public String escapeUnsafeCharacters(String input) {
         // remove multiline comment
-        return input.replace("'''", "'_'_'");
+        return MULTILINE_STRING_ESCAPER.escape(input);
     }
 
     @Override
@@ -706,46 +709,55 @@ public class PythonFlaskConnexionCodegen extends DefaultCodegenConfig {
         }
     }
 
+    @Override
+    protected void addPreprocessVisitors(OpenAPI openAPI, List<OpenAPIVisitor> visitors) {
+        super.addPreprocessVisitors(openAPI, visitors);
+        visitors.add(new RouterControllerVisitor());
+    }
+
+    /**
+     * @deprecated the extensions are added by a {@link RouterControllerVisitor} during the walk of
+     * {@link #preprocessOpenAPI(OpenAPI)}.
+     */
+    @Deprecated
     protected void addRouterControllerExtensions(Paths paths) {
         if(paths == null || paths.isEmpty()) {
             return;
         }
-        // need vendor extensions for x-openapi-router-controller
-        for(String pathname : paths.keySet()) {
-            final PathItem path = paths.get(pathname);
-            final Map<PathItem.HttpMethod, Operation> operationMap = path.readOperationsMap();
+        OpenAPIWalker.walk(new OpenAPI().paths(paths), Collections.singletonList(new RouterControllerVisitor()));
+    }
 
-            if(operationMap == null || operationMap.isEmpty()) {
-                continue;
+    /**
+     * Adds the vendor extensions for x-openapi-router-controller, and sanitizes the parameter names.
+     */
+    protected class RouterControllerVisitor implements OpenAPIVisitor {
+
+        @Override
+        public void visitOperation(String pathname, PathItem.HttpMethod method, Operation operation, PathItem pathItem) {
+            String tag = "default";
+            if(operation.getTags() != null && operation.getTags().size() > 0) {
+                tag = operation.getTags().get(0);
+            }
+            String operationId = operation.getOperationId();
+            if(operationId == null) {
+                operationId = getOrGenerateOperationId(operation, pathname, method.toString());
             }
-            for(PathItem.HttpMethod method : operationMap.keySet()) {
-                Operation operation = operationMap.get(method);
-                String tag = "default";
-                if(operation.getTags() != null && operation.getTags().size() > 0) {
-                    tag = operation.getTags().get(0);
-                }
-                String operationId = operation.getOperationId();
-                if(operationId == null) {
-                    operationId = getOrGenerateOperationId(operation, pathname, method.toString());
-                }
 
-                operation.setOperationId(toOperationId(operationId));
-                if (operation.getExtensions() == null || operation.getExtensions().get("x-openapi-router-controller") == null) {
-                    operation.addExtension("x-openapi-router-controller", controllerPackage + "." + toApiFilename(tag));
-                }
-                if (operation.getParameters() == null || operation.getParameters().isEmpty()) {
-                    continue;
-                }
-                for (Parameter param: operation.getParameters()) {
-                    // sanitize the param name but don't underscore it since it's used for request mapping
-                    String name = param.getName();
-                    String paramName = sanitizeName(name);
-                    if (!paramName.equals(name)) {
-                        LOGGER.warn(name + " cannot be used as parameter name with flask-connexion and was sanitized as " + paramName);
-                    }
-                    param.setName(paramName);
-                }
+            operation.setOperationId(toOperationId(operationId));
+            if (operation.getExtensions() == null || operation.getExtensions().get("x-openapi-router-controller") == null) {
+                operation.addExtension("x-openapi-router-controller", controllerPackage + "." + toApiFilename(tag));
+            }
+        }
+
+        @Override
+        public void visitParameter(Operation operation, Parameter param) {
+            // sanitize the param name but don't underscore it since it's used for request mapping
+            String name = param.getName();
+            String paramName = sanitizeName(name);
+            if (!paramName.equals(name)) {
+                LOGGER.warn(name + " cannot be used as parameter name with flask-connexion and was sanitized as " + paramName);
             }
+            param.setName(paramName);
         }
     }
 
@@ -2,12 +2,14 @@ package io.swagger.codegen.v3.generators.ruby;
 
 import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -23,10 +25,14 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class RubyClientCodegen extends DefaultCodegenConfig {
     private static final Logger LOGGER = LoggerFactory.getLogger(RubyClientCodegen.class);
+    private static final TextEscaper BLOCK_COMMENT_ESCAPER = new TextEscaper(new String[]{"=end", "=begin"}, new String[]{"=_end", "=_begin"});
 
     public static final String GEM_NAME = "gemName";
     public static final String MODULE_NAME = "moduleName";
@@ -38,6 +44,10 @@ public class RubyClientCodegen extends DefaultCodegenConfig {
     public static final String GEM_DESCRIPTION = "gemDescription";
     public static final String GEM_AUTHOR = "gemAuthor";
     public static final String GEM_AUTHOR_EMAIL = "gemAuthorEmail";
+    public static final String USE_OJ = "useOj";
+
+    private static final Pattern ARRAY_TYPE = Pattern.compile("Array<(.+)>");
+    private static final Pattern HASH_TYPE = Pattern.compile("Hash<([^,]+), (.+)>");
 
     protected String gemName;
     protected String moduleName;
@@ -51,6 +61,7 @@ public class RubyClientCodegen extends DefaultCodegenConfig {
     protected String gemDescription = "This gem maps to a swagger API";
     protected String gemAuthor = "";
     protected String gemAuthorEmail = "";
+    protected boolean useOj = false;
     protected String apiDocPath = "docs/";
     protected String modelDocPath = "docs/";
 
@@ -112,6 +123,7 @@ public class RubyClientCodegen extends DefaultCodegenConfig {
         typeMapping.put("float", "Float");
         typeMapping.put("double", "Float");
         typeMapping.put("number", "Float");
+        typeMapping.put("BigDecimal", "Float");
         typeMapping.put("date", "Date");
         typeMapping.put("DateTime", "DateTime");
         typeMapping.put("boolean", "BOOLEAN");
@@ -147,6 +159,7 @@ public class RubyClientCodegen extends DefaultCodegenConfig {
         cliOptions.add(new CliOption(GEM_AUTHOR_EMAIL, "gem author email (only one is supported)."));
         cliOptions.add(new CliOption(CodegenConstants.HIDE_GENERATION_TIMESTAMP, CodegenConstants.HIDE_GENERATION_TIMESTAMP_DESC)
                 .defaultValue(Boolean.TRUE.toString()));
+        cliOptions.add(CliOption.newBoolean(USE_OJ, "Parse and generate JSON with the Oj gem, which is added to the gem dependencies."));
     }
 
     @Override
@@ -219,6 +232,10 @@ public class RubyClientCodegen extends DefaultCodegenConfig {
             setGemAuthorEmail((String) additionalProperties.get(GEM_AUTHOR_EMAIL));
         }
 
+        if (additionalProperties.containsKey(USE_OJ)) {
+            setUseOj(convertPropertyToBooleanAndWriteBack(USE_OJ));
+        }
+
         // make api and model doc path available in mustache template
         additionalProperties.put("apiDocPath", apiDocPath);
         additionalProperties.put("modelDocPath", modelDocPath);
@@ -590,7 +607,58 @@ public class RubyClientCodegen extends DefaultCodegenConfig {
     @Override
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
         // process enum in models
-        return postProcessModelsEnum(objs);
+        objs = postProcessModelsEnum(objs);
+        // the conversion of each attribute in build_from_hash, resolved here instead of matching its type at runtime
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> models = (List<Map<String, Object>>) objs.get("models");
+        for (Map<String, Object> model : models) {
+            final CodegenModel codegenModel = (CodegenModel) model.get("model");
+            for (CodegenProperty property : codegenModel.vars) {
+                property.vendorExtensions.put("x-from-hash", toFromHash(property.datatype, "value", 0));
+            }
+        }
+        return objs;
+    }
+
+    /**
+     * Returns the expression deserializing a value of the given type, as build_from_hash of the models did at runtime.
+     */
+    private String toFromHash(String type, String value, int depth) {
+        final Matcher array = ARRAY_TYPE.matcher(type);
+        if (array.matches()) {
+            final String item = toFromHash(array.group(1), "v" + depth, depth + 1);
+            if (item.equals("v" + depth)) {
+                return value;
+            }
+            if (item.startsWith("v" + depth + ".") && item.indexOf(' ') < 0) {
+                return value + ".map(&:" + item.substring(item.indexOf('.') + 1) + ")";
+            }
+            return value + ".map { |v" + depth + "| " + item + " }";
+        }
+        final Matcher hash = HASH_TYPE.matcher(type);
+        if (hash.matches()) {
+            final String key = toFromHash(hash.group(1), "k" + depth, depth + 1);
+            final String item = toFromHash(hash.group(2), "v" + depth, depth + 1);
+            return value + ".each_with_object({}) { |(k" + depth + ", v" + depth + "), h| h[" + key + "] = " + item + " }";
+        }
+        switch (type) {
+            case "String":
+                return value + ".to_s";
+            case "Integer":
+                return value + ".to_i";
+            case "Float":
+                return value + ".to_f";
+            case "BOOLEAN":
+                return "(" + value + " == true || !(" + value + ".to_s =~ /\\A(true|t|yes|y|1)\\z/i).nil?)";
+            case "Date":
+            case "DateTime":
+                return type + ".parse(" + value + ")";
+            case "Object":
+            case "File":
+                return value;
+            default:
+                return type + ".build_from_hash(" + value + ")";
+        }
     }
 
     @Override
@@ -716,6 +784,10 @@ public class RubyClientCodegen extends DefaultCodegenConfig {
         this.gemAuthor = gemAuthor;
     }
 
+    public void setUseOj(boolean useOj) {
+        this.useOj = useOj;
+    }
+
     public void setGemAuthorEmail(String gemAuthorEmail) {
         this.gemAuthorEmail = gemAuthorEmail;
     }
@@ -741,7 +813,7 @@ public class RubyClientCodegen extends DefaultCodegenConfig {
 
     @Override
     public String escapeUnsafeCharacters(String input) {
-        return input.replace("=end", "=_end").replace("=begin", "=_begin");
+        return BLOCK_COMMENT_ESCAPER.escape(input);
     }
 
 }
@@ -10,6 +10,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -32,6 +33,12 @@ import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBoo
 public class Swift5Codegen extends DefaultCodegenConfig {
     protected static final Logger LOGGER = LoggerFactory.getLogger(Swift5Codegen.class);
 
+    // enum var naming runs once per enum value, keep its patterns compiled
+    private static final Pattern STARTING_NUMBERS_PATTERN = Pattern.compile("^\\d+");
+    private static final Pattern CAMELIZABLE_ENUM_PATTERN = Pattern.compile("[A-Z][a-z0-9]+[a-zA-Z0-9]*");
+    private static final Pattern ENUM_SEPARATORS_PATTERN = Pattern.compile("[-_ :()]");
+    private static final char[] ENUM_SEPARATORS = {'-', '_', ' ', ':', '(', ')'};
+
     public static final String PROJECT_NAME = "projectName";
     public static final String RESPONSE_AS = "responseAs";
     public static final String UNWRAP_REQUIRED = "unwrapRequired";
@@ -660,8 +667,7 @@ public class Swift5Codegen extends DefaultCodegenConfig {
             return "empty";
         }
 
-        Pattern startWithNumberPattern = Pattern.compile("^\\d+");
-        Matcher startWithNumberMatcher = startWithNumberPattern.matcher(name);
+        Matcher startWithNumberMatcher = STARTING_NUMBERS_PATTERN.matcher(name);
         if (startWithNumberMatcher.find()) {
             String startingNumbers = startWithNumberMatcher.group(0);
             String nameWithoutStartingNumbers = name.substring(startingNumbers.length());
@@ -670,13 +676,14 @@ public class Swift5Codegen extends DefaultCodegenConfig {
         }
 
         // for symbol, e.g. $, #
-        if (getSymbolName(name) != null) {
-            return camelize(WordUtils.capitalizeFully(getSymbolName(name).toUpperCase()), true);
+        final String symbolName = getSymbolName(name);
+        if (symbolName != null) {
+            return camelize(WordUtils.capitalizeFully(symbolName.toUpperCase()), true);
         }
 
         // Camelize only when we have a structure defined below
         boolean camelized = false;
-        if (name.matches("[A-Z][a-z0-9]+[a-zA-Z0-9]*")) {
+        if (CAMELIZABLE_ENUM_PATTERN.matcher(name).matches()) {
             name = camelize(name, true);
             camelized = true;
         }
@@ -691,10 +698,7 @@ public class Swift5Codegen extends DefaultCodegenConfig {
         if ("Int".equals(datatype) || "Int32".equals(datatype) || "Int64".equals(datatype)
             || "Float".equals(datatype) || "Double".equals(datatype)) {
             String varName = "number" + camelize(name);
-            varName = varName.replaceAll("-", "minus");
-            varName = varName.replaceAll("\\+", "plus");
-            varName = varName.replaceAll("\\.", "dot");
-            return varName;
+            return StringUtils.replaceEach(varName, new String[]{"-", "+", "."}, new String[]{"minus", "plus", "dot"});
         }
 
         // If we have already camelized the word, don't progress
@@ -703,9 +707,8 @@ public class Swift5Codegen extends DefaultCodegenConfig {
             return name;
         }
 
-        char[] separators = {'-', '_', ' ', ':', '(', ')'};
-        return camelize(WordUtils.capitalizeFully(StringUtils.lowerCase(name), separators)
-                .replaceAll("[-_ :()]", ""),
+        return camelize(ENUM_SEPARATORS_PATTERN.matcher(WordUtils.capitalizeFully(StringUtils.lowerCase(name), ENUM_SEPARATORS))
+                .replaceAll(""),
             true);
     }
 
@@ -806,7 +809,7 @@ public class Swift5Codegen extends DefaultCodegenConfig {
 
     @Override
     public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+        return TextEscaper.BLOCK_COMMENT.escape(input);
     }
 
     private static void reconcileProperties(CodegenModel codegenModel,
@@ -3,11 +3,14 @@ package io.swagger.codegen.v3.generators.typescript;
 import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenOperation;
+import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.ISchemaHandler;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
 import io.swagger.v3.oas.models.media.BinarySchema;
@@ -26,6 +29,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -44,6 +49,10 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegenConf
 
     private static final String UNDEFINED_VALUE = "undefined";
 
+    public static final String QUERY_SERIALIZERS = "querySerializers";
+    public static final String PATH_BUILDER_EXT_NAME = "x-path-builder";
+    public static final String QUERY_KEY_PREFIX_EXT_NAME = "x-query-key-prefix";
+
     protected String modelPropertyNaming= "camelCase";
     protected Boolean supportsES6 = true;
     protected HashSet<String> languageGenericTypes;
@@ -363,6 +372,89 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegenConf
         return camelize(sanitizeName(operationId), true);
     }
 
+    /**
+     * Adds to every operation a TypeScript expression building its request path: static segments are joined
+     * at generation time and only the path parameters are encoded when the request is made.
+     * Query parameters also get their encoded <code>&amp;key=</code> prefix, used by the generated query serializers.
+     */
+    @SuppressWarnings("unchecked")
+    protected void addPathBuilders(Map<String, Object> objs) {
+        final Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+        if (operations == null || operations.get("operation") == null) {
+            return;
+        }
+        for (CodegenOperation operation : (List<CodegenOperation>) operations.get("operation")) {
+            operation.getVendorExtensions().put(PATH_BUILDER_EXT_NAME, toPathExpression(operation, false));
+            if (operation.queryParams == null) {
+                continue;
+            }
+            for (CodegenParameter queryParam : operation.queryParams) {
+                queryParam.getVendorExtensions().put(QUERY_KEY_PREFIX_EXT_NAME, "&" + encodeQueryKey(queryParam.baseName) + "=");
+            }
+        }
+    }
+
+    /**
+     * Rewrites the operation path as a TypeScript expression encoding the path parameters.
+     *
+     * @param operation operation of the path
+     * @param templateLiteral whether to return the body of a template literal instead of a string concatenation
+     * @return the path expression
+     */
+    protected String toPathExpression(CodegenOperation operation, boolean templateLiteral) {
+        final String path = operation.path;
+        final StringBuilder expression = new StringBuilder();
+        int start = 0;
+        while (start < path.length()) {
+            final int open = path.indexOf('{', start);
+            final int close = open < 0 ? -1 : path.indexOf('}', open);
+            final String literal = close < 0 ? path.substring(start) : path.substring(start, open);
+            if (!literal.isEmpty()) {
+                appendPathPart(expression, templateLiteral ? literal : "'" + escapeStringLiteral(literal) + "'", templateLiteral);
+            }
+            if (close < 0) {
+                break;
+            }
+            final String encoded = "encodeURIComponent(String(" + toPathParamName(operation, path.substring(open + 1, close)) + "))";
+            appendPathPart(expression, templateLiteral ? "${" + encoded + "}" : encoded, templateLiteral);
+            start = close + 1;
+        }
+        if (expression.length() == 0 && !templateLiteral) {
+            return "''";
+        }
+        return expression.toString();
+    }
+
+    private static void appendPathPart(StringBuilder expression, String part, boolean templateLiteral) {
+        if (!templateLiteral && expression.length() > 0) {
+            expression.append(" + ");
+        }
+        expression.append(part);
+    }
+
+    private String toPathParamName(CodegenOperation operation, String baseName) {
+        if (operation.pathParams != null) {
+            for (CodegenParameter pathParam : operation.pathParams) {
+                if (baseName.equals(pathParam.baseName)) {
+                    return pathParam.paramName;
+                }
+            }
+        }
+        return toVarName(baseName);
+    }
+
+    private static String escapeStringLiteral(String literal) {
+        return literal.replace("\\", "\\\\").replace("'", "\\'");
+    }
+
+    private static String encodeQueryKey(String key) {
+        try {
+            return URLEncoder.encode(key, "UTF-8").replace("+", "%20");
+        } catch (UnsupportedEncodingException e) {
+            return key;
+        }
+    }
+
     public void setModelPropertyNaming(String naming) {
         if ("original".equals(naming) || "camelCase".equals(naming) ||
             "PascalCase".equals(naming) || "snake_case".equals(naming)) {
@@ -489,7 +581,7 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegenConf
 
     @Override
     public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+        return TextEscaper.BLOCK_COMMENT.escape(input);
     }
 
     @Override
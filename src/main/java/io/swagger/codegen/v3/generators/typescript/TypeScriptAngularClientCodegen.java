@@ -640,42 +640,8 @@ public class TypeScriptAngularClientCodegen extends AbstractTypeScriptClientCode
         for (CodegenOperation op : ops) {
             op.httpMethod = op.httpMethod.toLowerCase(Locale.ENGLISH);
 
-            // Prep a string buffer where we're going to set up our new version of the string.
-            StringBuilder pathBuffer = new StringBuilder();
-            StringBuilder parameterName = new StringBuilder();
-            int insideCurly = 0;
-
-            // Iterate through existing string, one character at a time.
-            for (int i = 0; i < op.path.length(); i++) {
-                switch (op.path.charAt(i)) {
-                case '{':
-                    // We entered curly braces, so track that.
-                    insideCurly++;
-
-                    // Add the more complicated component instead of just the brace.
-                    pathBuffer.append("${encodeURIComponent(String(");
-                    break;
-                case '}':
-                    // We exited curly braces, so track that.
-                    insideCurly--;
-
-                    // Add the more complicated component instead of just the brace.
-                    pathBuffer.append(toVarName(parameterName.toString()));
-                    pathBuffer.append("))}");
-                    parameterName.setLength(0);
-                    break;
-                default:
-                    if (insideCurly > 0) {
-                        parameterName.append(op.path.charAt(i));
-                    } else {
-                        pathBuffer.append(op.path.charAt(i));
-                    }
-                    break;
-                }
-            }
-
-            // Overwrite path to TypeScript template string, after applying everything we just did.
-            op.path = pathBuffer.toString();
+            // Overwrite path to TypeScript template string, static segments joined and path parameters encoded.
+            op.path = toPathExpression(op, true);
         }
 
         List<CodegenOperationWithMethod> withMethods = new ArrayList<>();
@@ -1,5 +1,6 @@
 package io.swagger.codegen.v3.generators.typescript;
 
+import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenOperation;
@@ -31,6 +32,8 @@ public class TypeScriptAxiosClientCodegen extends AbstractTypeScriptClientCodege
         super();
         importMapping.clear();
         outputFolder = "generated-code/typescript-axios";
+        cliOptions.add(CliOption.newBoolean(QUERY_SERIALIZERS,
+                "Serialize the query parameters of each operation with generated code instead of building a URLSearchParams object."));
     }
 
     @Override
@@ -99,6 +102,8 @@ public class TypeScriptAxiosClientCodegen extends AbstractTypeScriptClientCodege
         supportingFiles.add(new SupportingFile("README.mustache", "", "README.md"));
         supportingFiles.add(new SupportingFile("package.mustache", "", "package.json"));
         supportingFiles.add(new SupportingFile("tsconfig.mustache", "", "tsconfig.json"));
+
+        convertPropertyToBooleanAndWriteBack(QUERY_SERIALIZERS);
     }
 
     @Override
@@ -115,6 +120,7 @@ public class TypeScriptAxiosClientCodegen extends AbstractTypeScriptClientCodege
                 }
             }
         }
+        addPathBuilders(operations);
         return operations;
     }
 
@@ -0,0 +1,151 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map reading from a shared table, and copying it on the first write that changes it. Generators get their language
+ * tables in constructors and rarely change them afterwards, so most instances never pay for the copy. Generated
+ * objects with equal vendor extensions share them the same way.
+ * <p>
+ * Like {@link HashMap} it is not thread safe, the shared table must not be modified.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class CopyOnWriteMap<K, V> extends AbstractMap<K, V> {
+
+    private Map<K, V> map;
+    private boolean shared;
+
+    public CopyOnWriteMap(Map<K, V> sharedMap) {
+        this.map = sharedMap;
+        this.shared = true;
+    }
+
+    /**
+     * @return whether the map still reads from the shared table
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    private Map<K, V> writableMap() {
+        if (shared) {
+            map = new HashMap<>(map);
+            shared = false;
+        }
+        return map;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (shared && value != null) {
+            final V current = map.get(key);
+            if (value.equals(current)) {
+                return current;
+            }
+        }
+        return writableMap().put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (shared && !map.containsKey(key)) {
+            return null;
+        }
+        return writableMap().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        if (!m.isEmpty()) {
+            writableMap().putAll(m);
+        }
+    }
+
+    @Override
+    public void clear() {
+        map = new HashMap<>();
+        shared = false;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return shared ? new SharedEntryIterator(map.entrySet().iterator()) : map.entrySet().iterator();
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    /**
+     * Iterates over the shared table, writes through the entries and the iterator go to the copy.
+     */
+    private class SharedEntryIterator implements Iterator<Entry<K, V>> {
+        private final Iterator<Entry<K, V>> iterator;
+        private K lastKey;
+
+        private SharedEntryIterator(Iterator<Entry<K, V>> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            final Entry<K, V> entry = iterator.next();
+            lastKey = entry.getKey();
+            return new SimpleEntry<K, V>(entry) {
+                @Override
+                public V setValue(V value) {
+                    super.setValue(value);
+                    return put(getKey(), value);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            writableMap().remove(lastKey);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Set reading from a table shared by every generator instance of a language, and copying it on the first write.
+ *
+ * @param <E> element type
+ * @see CopyOnWriteMap
+ */
+public class CopyOnWriteSet<E> extends AbstractSet<E> {
+
+    private Set<E> set;
+    private boolean shared;
+
+    public CopyOnWriteSet(Set<E> sharedSet) {
+        this.set = sharedSet;
+        this.shared = true;
+    }
+
+    /**
+     * @return whether the set still reads from the shared table
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    private Set<E> writableSet() {
+        if (shared) {
+            set = new HashSet<>(set);
+            shared = false;
+        }
+        return set;
+    }
+
+    @Override
+    public int size() {
+        return set.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return set.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return set.contains(o);
+    }
+
+    @Override
+    public boolean add(E e) {
+        if (shared && set.contains(e)) {
+            return false;
+        }
+        return writableSet().add(e);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (shared && !set.contains(o)) {
+            return false;
+        }
+        return writableSet().remove(o);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (shared && set.containsAll(c)) {
+            return false;
+        }
+        return writableSet().addAll(c);
+    }
+
+    @Override
+    public void clear() {
+        set = new HashSet<>();
+        shared = false;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        if (!shared) {
+            return set.iterator();
+        }
+        final Iterator<E> iterator = set.iterator();
+        return new Iterator<E>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                writableSet().remove(last);
+            }
+        };
+    }
+}
@@ -0,0 +1,202 @@
+package io.swagger.codegen.v3.generators.util;
+
+import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.cache.TemplateCache;
+import io.swagger.v3.core.util.Json;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records wall time, allocated bytes and invocation count of the generation phases and of every rendered
+ * template, and writes them as <code>generation-profile.json</code> and <code>generation-profile.csv</code>.
+ * <p>
+ * Generation hooks run one after the other, so a phase entered with {@link #enter(String)} lasts until another
+ * phase is entered: its time includes the work done by generator overrides of the hook and by the generator core
+ * in between. Samples taken with {@link #start(String)}/{@link #stop(Sample)} are inclusive instead, e.g. example
+ * generation is also part of the fromOperation phase.
+ */
+public class GenerationProfiler {
+
+    public static final String REPORT_NAME = "generation-profile";
+    public static final String TEMPLATE_PHASE_PREFIX = "template:";
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    public static final String RENDER_PHASE = "renderTemplates";
+
+    private final ConcurrentMap<String, Metrics> phases = new ConcurrentHashMap<>();
+
+    private String currentPhase;
+    private long currentPhaseNanos;
+    private long currentPhaseBytes;
+
+    /**
+     * Counts an invocation of a generation hook, and makes it the current phase if it is not already.
+     *
+     * @param phase name of the phase
+     */
+    public synchronized void enter(String phase) {
+        metrics(phase).invocations.incrementAndGet();
+        if (phase.equals(currentPhase)) {
+            return;
+        }
+        closeCurrentPhase();
+        currentPhase = phase;
+        currentPhaseNanos = System.nanoTime();
+        currentPhaseBytes = allocatedBytes();
+    }
+
+    private void closeCurrentPhase() {
+        if (currentPhase == null) {
+            return;
+        }
+        metrics(currentPhase).add(System.nanoTime() - currentPhaseNanos, allocatedSince(currentPhaseBytes));
+        currentPhaseNanos = System.nanoTime();
+        currentPhaseBytes = allocatedBytes();
+    }
+
+    public Sample start(String phase) {
+        return new Sample(phase, System.nanoTime(), allocatedBytes());
+    }
+
+    public void stop(Sample sample) {
+        final Metrics metrics = metrics(sample.phase);
+        metrics.invocations.incrementAndGet();
+        metrics.add(System.nanoTime() - sample.startNanos, allocatedSince(sample.startBytes));
+    }
+
+    private Metrics metrics(String phase) {
+        return phases.computeIfAbsent(phase, key -> new Metrics());
+    }
+
+    /**
+     * Wraps a template cache so that every template it returns records its rendering time under
+     * <code>template:&lt;filename&gt;</code>.
+     *
+     * @param cache the cache used by the template engine
+     * @return the profiling cache
+     */
+    public TemplateCache profile(final TemplateCache cache) {
+        return (TemplateCache) Proxy.newProxyInstance(TemplateCache.class.getClassLoader(), new Class<?>[]{TemplateCache.class},
+                (proxy, method, args) -> {
+                    final Object result = invoke(cache, method, args);
+                    if (result instanceof Template && !Proxy.isProxyClass(result.getClass())) {
+                        return profile((Template) result);
+                    }
+                    return result == cache ? proxy : result;
+                });
+    }
+
+    private Template profile(final Template template) {
+        final String phase = TEMPLATE_PHASE_PREFIX + template.filename();
+        return (Template) Proxy.newProxyInstance(Template.class.getClassLoader(), new Class<?>[]{Template.class},
+                (proxy, method, args) -> {
+                    if (!"apply".equals(method.getName())) {
+                        return invoke(template, method, args);
+                    }
+                    enter(RENDER_PHASE);
+                    final Sample sample = start(phase);
+                    try {
+                        return invoke(template, method, args);
+                    } finally {
+                        stop(sample);
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return the recorded metrics by phase, sorted by phase name
+     */
+    public synchronized List<Map<String, Object>> getReport() {
+        // account for the time spent so far in the phase still running
+        closeCurrentPhase();
+        final List<String> names = new ArrayList<>(phases.keySet());
+        names.sort(null);
+        final List<Map<String, Object>> report = new ArrayList<>();
+        for (String name : names) {
+            final Metrics metrics = phases.get(name);
+            final Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("phase", name);
+            entry.put("invocations", metrics.invocations.get());
+            entry.put("wallTimeMillis", metrics.nanos.get() / 1_000_000.0);
+            entry.put("allocatedBytes", metrics.allocatedBytes.get());
+            report.add(entry);
+        }
+        return report;
+    }
+
+    public void writeReport(File folder) throws IOException {
+        final List<Map<String, Object>> report = getReport();
+        FileUtils.writeStringToFile(new File(folder, REPORT_NAME + ".json"), Json.pretty().writeValueAsString(report), StandardCharsets.UTF_8);
+
+        final StringBuilder csv = new StringBuilder("phase,invocations,wallTimeMillis,allocatedBytes\n");
+        for (Map<String, Object> entry : report) {
+            csv.append('"').append(String.valueOf(entry.get("phase")).replace("\"", "\"\"")).append('"')
+                    .append(',').append(entry.get("invocations"))
+                    .append(',').append(entry.get("wallTimeMillis"))
+                    .append(',').append(entry.get("allocatedBytes"))
+                    .append('\n');
+        }
+        FileUtils.writeStringToFile(new File(folder, REPORT_NAME + ".csv"), csv.toString(), StandardCharsets.UTF_8);
+    }
+
+    private static long allocatedSince(long startBytes) {
+        return startBytes < 0 ? 0 : Math.max(0, allocatedBytes() - startBytes);
+    }
+
+    private static long allocatedBytes() {
+        if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+            if (threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+                return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    public static class Sample {
+        private final String phase;
+        private final long startNanos;
+        private final long startBytes;
+
+        private Sample(String phase, long startNanos, long startBytes) {
+            this.phase = phase;
+            this.startNanos = startNanos;
+            this.startBytes = startBytes;
+        }
+    }
+
+    private static class Metrics {
+        private final AtomicLong invocations = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+        private final AtomicLong allocatedBytes = new AtomicLong();
+
+        private void add(long elapsedNanos, long allocated) {
+            nanos.addAndGet(elapsedNanos);
+            allocatedBytes.addAndGet(allocated);
+        }
+    }
+}
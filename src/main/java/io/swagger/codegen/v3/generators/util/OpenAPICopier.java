@@ -0,0 +1,204 @@
+package io.swagger.codegen.v3.generators.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Deep copies parsed specifications, so that generators which modify the specification while generating can work
+ * on their own copy of a specification parsed once.
+ * <p>
+ * Unlike a serialization round trip, the copy keeps the model classes of the parser (e.g. binary schemas) and the
+ * objects the parser shares between several places of the specification stay shared in the copy. JDK values other
+ * than collections, maps, arrays and dates are immutable and are shared with the original. Any other object is
+ * copied field by field, and copying fails if it has no no-arg constructor, so no mutable part of the specification
+ * is ever shared between copies.
+ */
+public class OpenAPICopier {
+
+    private static final ConcurrentMap<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    private OpenAPICopier() {
+    }
+
+    /**
+     * @param value a specification or any part of it, must not be modified while it is copied
+     * @param <T> type of the value
+     * @return a deep copy of the value
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(T value) {
+        return (T) new OpenAPICopier().copyValue(value);
+    }
+
+    private Object copyValue(Object value) {
+        if (value == null || isImmutable(value.getClass())) {
+            return value;
+        }
+        final Object existing = copies.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (value instanceof JsonNode) {
+            return register(value, ((JsonNode) value).deepCopy());
+        }
+        if (value instanceof Date) {
+            return register(value, ((Date) value).clone());
+        }
+        if (value.getClass().isArray()) {
+            return copyArray(value);
+        }
+        if (value instanceof Map) {
+            return copyMap((Map<?, ?>) value);
+        }
+        if (value instanceof Collection) {
+            return copyCollection((Collection<?>) value);
+        }
+        final Object copy = newInstance(value.getClass());
+        if (copy == null) {
+            throw new IllegalArgumentException("Could not copy " + value.getClass().getName() + ", it has no no-arg constructor");
+        }
+        register(value, copy);
+        copyFields(value, copy);
+        return copy;
+    }
+
+    private Object register(Object value, Object copy) {
+        copies.put(value, copy);
+        return copy;
+    }
+
+    private Object copyArray(Object array) {
+        final int length = Array.getLength(array);
+        final Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        register(array, copy);
+        if (array.getClass().getComponentType().isPrimitive()) {
+            System.arraycopy(array, 0, copy, 0, length);
+            return copy;
+        }
+        for (int i = 0; i < length; i++) {
+            Array.set(copy, i, copyValue(Array.get(array, i)));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyMap(Map<?, ?> map) {
+        Map<Object, Object> copy = (Map<Object, Object>) newInstance(map.getClass());
+        if (copy == null && !isJdkClass(map.getClass())) {
+            throw new IllegalArgumentException("Could not copy " + map.getClass().getName() + ", it has no no-arg constructor");
+        } else if (copy == null) {
+            // unmodifiable, singleton and other JDK maps without a no-arg constructor
+            copy = map instanceof SortedMap ? new TreeMap<>(((SortedMap<Object, ?>) map).comparator()) : new LinkedHashMap<>();
+        } else if (map instanceof TreeMap && ((SortedMap<?, ?>) map).comparator() != null) {
+            copy = new TreeMap<>(((SortedMap<Object, ?>) map).comparator());
+        }
+        register(map, copy);
+        copyFields(map, copy);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            copy.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyCollection(Collection<?> collection) {
+        Collection<Object> copy = (Collection<Object>) newInstance(collection.getClass());
+        if (copy == null && !isJdkClass(collection.getClass())) {
+            throw new IllegalArgumentException("Could not copy " + collection.getClass().getName() + ", it has no no-arg constructor");
+        } else if (copy == null) {
+            // unmodifiable, singleton, Arrays.asList and other JDK collections without a no-arg constructor
+            if (collection instanceof SortedSet) {
+                copy = new TreeSet<>(((SortedSet<Object>) collection).comparator());
+            } else {
+                copy = collection instanceof Set ? new LinkedHashSet<>() : new ArrayList<>();
+            }
+        } else if (collection instanceof TreeSet && ((SortedSet<?>) collection).comparator() != null) {
+            copy = new TreeSet<>(((SortedSet<Object>) collection).comparator());
+        }
+        register(collection, copy);
+        copyFields(collection, copy);
+        for (Object element : collection) {
+            copy.add(copyValue(element));
+        }
+        return copy;
+    }
+
+    private void copyFields(Object value, Object copy) {
+        try {
+            for (Field field : fields(value.getClass())) {
+                field.set(copy, copyValue(field.get(value)));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not copy " + value.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * @return the instance fields declared by the class and its superclasses outside of the JDK
+     */
+    private static List<Field> fields(Class<?> type) {
+        return FIELDS.computeIfAbsent(type, key -> {
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> current = key; current != null && !isJdkClass(current); current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            return fields;
+        });
+    }
+
+    /**
+     * @return a new instance of the class, or null if it can not be created with a no-arg constructor. The constructor
+     * of a JDK class must be public, the one of any other class may have any visibility.
+     */
+    private static Object newInstance(Class<?> type) {
+        try {
+            final Constructor<?> constructor = type.getDeclaredConstructor();
+            if (isJdkClass(type) && (!Modifier.isPublic(constructor.getModifiers()) || !Modifier.isPublic(type.getModifiers()))) {
+                return null;
+            }
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        if (type.isPrimitive() || Enum.class.isAssignableFrom(type) || type == Class.class) {
+            return true;
+        }
+        return isJdkClass(type) && !type.isArray() && !Map.class.isAssignableFrom(type)
+                && !Collection.class.isAssignableFrom(type) && !Date.class.isAssignableFrom(type);
+    }
+
+    private static boolean isJdkClass(Class<?> type) {
+        return type.getName().startsWith("java.");
+    }
+}
@@ -0,0 +1,49 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+/**
+ * Callbacks of a walk over a specification by {@link OpenAPIWalker}, e.g. to add vendor extensions while
+ * preprocessing it. Every callback does nothing by default.
+ */
+public interface OpenAPIVisitor {
+
+    /**
+     * @param pathname path of the operation
+     * @param method http method of the operation
+     * @param operation the operation
+     * @param pathItem path item declaring the operation
+     */
+    default void visitOperation(String pathname, PathItem.HttpMethod method, Operation operation, PathItem pathItem) {
+    }
+
+    /**
+     * Called after {@link #visitOperation} of every visitor for each parameter of the operation.
+     *
+     * @param operation the operation declaring the parameter
+     * @param parameter the parameter
+     */
+    default void visitParameter(Operation operation, Parameter parameter) {
+    }
+
+    /**
+     * Called after {@link #visitOperation} of every visitor for each response of the operation.
+     *
+     * @param operation the operation declaring the response
+     * @param responseCode status code of the response
+     * @param response the response
+     */
+    default void visitResponse(Operation operation, String responseCode, ApiResponse response) {
+    }
+
+    /**
+     * @param name name of the schema in the components of the specification
+     * @param schema the schema
+     */
+    default void visitSchema(String name, Schema schema) {
+    }
+}
@@ -0,0 +1,64 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Walks the operations, parameters, responses and component schemas of a specification once, calling every visitor
+ * on each of them in the order of the visitors. Several preprocessing steps thus cost a single walk, instead of one
+ * walk each.
+ */
+public class OpenAPIWalker {
+
+    private OpenAPIWalker() {
+    }
+
+    public static void walk(OpenAPI openAPI, List<OpenAPIVisitor> visitors) {
+        if (openAPI == null || visitors.isEmpty()) {
+            return;
+        }
+        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+            for (Map.Entry<String, Schema> entry : openAPI.getComponents().getSchemas().entrySet()) {
+                for (OpenAPIVisitor visitor : visitors) {
+                    visitor.visitSchema(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        if (openAPI.getPaths() == null) {
+            return;
+        }
+        for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+            final PathItem pathItem = path.getValue();
+            for (Map.Entry<PathItem.HttpMethod, Operation> entry : pathItem.readOperationsMap().entrySet()) {
+                walk(path.getKey(), entry.getKey(), entry.getValue(), pathItem, visitors);
+            }
+        }
+    }
+
+    private static void walk(String pathname, PathItem.HttpMethod method, Operation operation, PathItem pathItem, List<OpenAPIVisitor> visitors) {
+        for (OpenAPIVisitor visitor : visitors) {
+            visitor.visitOperation(pathname, method, operation, pathItem);
+        }
+        if (operation.getParameters() != null) {
+            for (Parameter parameter : operation.getParameters()) {
+                for (OpenAPIVisitor visitor : visitors) {
+                    visitor.visitParameter(operation, parameter);
+                }
+            }
+        }
+        if (operation.getResponses() != null) {
+            for (Map.Entry<String, ApiResponse> response : operation.getResponses().entrySet()) {
+                for (OpenAPIVisitor visitor : visitors) {
+                    visitor.visitResponse(operation, response.getKey(), response.getValue());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces characters and character sequences of a text, e.g. to escape descriptions rendered in string literals or
+ * comments.
+ * <p>
+ * Single character replacements are applied in one pass over the text, sequence replacements are then applied one
+ * after the other in the given order, as chained {@link String#replace(CharSequence, CharSequence)} calls would.
+ * A text containing none of the first characters of the searched strings, as most descriptions do, is returned
+ * as is without allocating.
+ */
+public class TextEscaper {
+
+    /**
+     * Escapes the delimiters of block comments in C like languages.
+     */
+    public static final TextEscaper BLOCK_COMMENT = new TextEscaper(new String[]{"*/", "/*"}, new String[]{"*_/", "/_*"});
+
+    private static final int TABLE_SIZE = 128;
+
+    private final String[] charReplacements = new String[TABLE_SIZE];
+    private final boolean[] triggers = new boolean[TABLE_SIZE];
+    // first characters outside of the ascii table, rarely any
+    private final String otherTriggers;
+    private final List<String[]> sequenceReplacements = new ArrayList<>();
+
+    /**
+     * @param searchList the strings to search for
+     * @param replacementList the strings to replace them with, at the same index
+     */
+    public TextEscaper(String[] searchList, String[] replacementList) {
+        if (searchList.length != replacementList.length) {
+            throw new IllegalArgumentException("search and replacement lists must have the same length");
+        }
+        final StringBuilder otherTriggers = new StringBuilder();
+        for (int i = 0; i < searchList.length; i++) {
+            final String search = searchList[i];
+            if (StringUtils.isEmpty(search)) {
+                throw new IllegalArgumentException("search strings can not be empty");
+            }
+            final char first = search.charAt(0);
+            if (search.length() == 1 && first < TABLE_SIZE) {
+                charReplacements[first] = replacementList[i];
+            } else {
+                sequenceReplacements.add(new String[]{search, replacementList[i]});
+            }
+            if (first < TABLE_SIZE) {
+                triggers[first] = true;
+            } else {
+                otherTriggers.append(first);
+            }
+        }
+        this.otherTriggers = otherTriggers.toString();
+    }
+
+    public String escape(String input) {
+        if (input == null) {
+            return null;
+        }
+        final int length = input.length();
+        int start = 0;
+        while (start < length && !isTrigger(input.charAt(start))) {
+            start++;
+        }
+        if (start == length) {
+            return input;
+        }
+        String result = input;
+        StringBuilder builder = null;
+        for (int i = start; i < length; i++) {
+            final char c = input.charAt(i);
+            final String replacement = c < TABLE_SIZE ? charReplacements[c] : null;
+            if (replacement != null) {
+                if (builder == null) {
+                    builder = new StringBuilder(length + 16).append(input, 0, i);
+                }
+                builder.append(replacement);
+            } else if (builder != null) {
+                builder.append(c);
+            }
+        }
+        if (builder != null) {
+            result = builder.toString();
+        }
+        for (String[] sequenceReplacement : sequenceReplacements) {
+            result = StringUtils.replace(result, sequenceReplacement[0], sequenceReplacement[1]);
+        }
+        return result;
+    }
+
+    private boolean isTrigger(char c) {
+        return c < TABLE_SIZE ? triggers[c] : otherTriggers.indexOf(c) >= 0;
+    }
+}
@@ -2,11 +2,14 @@ package io.swagger.codegen.v3.generators;
 
 import io.swagger.codegen.v3.CodegenArgument;
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenResponse;
 import io.swagger.codegen.v3.CodegenType;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.codegen.v3.generators.util.CopyOnWriteMap;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -14,10 +17,13 @@ import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
 import io.swagger.v3.oas.models.media.IntegerSchema;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
@@ -32,7 +38,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 public class DefaultCodegenConfigTest {
 
@@ -312,6 +323,111 @@ public class DefaultCodegenConfigTest {
         Assert.assertEquals(headerProperty.example, referencedHeader.getSchema().getExample());
     }
 
+    @Test
+    public void testEnumVarsAreUniqueAndShared() {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        final List<Map<String, String>> enumVars = codegen.toEnumVars(Arrays.<Object>asList("foo", "FOO", "bar"), "String");
+
+        Assert.assertEquals(enumVars.size(), 3);
+        Assert.assertEquals(enumVars.get(0).get("name"), "FOO");
+        Assert.assertEquals(enumVars.get(1).get("name"), "FOO_1");
+        Assert.assertEquals(enumVars.get(2).get("name"), "BAR");
+        Assert.assertSame(codegen.toEnumVars(Arrays.<Object>asList("foo", "FOO", "bar"), "String"), enumVars);
+        Assert.assertNotSame(codegen.toEnumVars(Arrays.<Object>asList("foo", "FOO", "bar"), "Integer"), enumVars);
+    }
+
+    @Test(description = "verify that the strings of generated models are held once per distinct value")
+    public void testCodegenStringsAreCanonical() {
+        final Map<String, Schema> schemas = new LinkedHashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            schemas.put("Item" + i, new ObjectSchema()
+                    .addProperties("id", new IntegerSchema().format("int64").description("Identifier of the item"))
+                    .addProperties("name", new StringSchema().description("Name of the item"))
+                    .addProperties("createdAt", new DateTimeSchema())
+                    .addProperties("tags", new ArraySchema().items(new StringSchema())));
+        }
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.preprocessOpenAPI(new OpenAPI().components(new Components().schemas(schemas)));
+
+        final Set<String> values = new HashSet<>();
+        final Set<String> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            final CodegenModel codegenModel = codegen.fromModel(entry.getKey(), entry.getValue(), schemas);
+            for (CodegenProperty codegenProperty : codegenModel.vars) {
+                for (String value : Arrays.asList(codegenProperty.datatype, codegenProperty.baseType, codegenProperty.getter,
+                        codegenProperty.setter, codegenProperty.description, codegenProperty.jsonSchema)) {
+                    if (value != null) {
+                        values.add(value);
+                        instances.add(value);
+                    }
+                }
+            }
+        }
+
+        Assert.assertTrue(values.size() < 30, "distinct values: " + values.size());
+        Assert.assertEquals(instances.size(), values.size());
+    }
+
+    @Test(description = "verify that equal vendor extensions of generated properties are shared until changed")
+    public void testVendorExtensionsAreSharedUntilChanged() {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        final CodegenProperty first = codegen.fromProperty("id", new IntegerSchema().format("int64"));
+        final CodegenProperty second = codegen.fromProperty("count", new IntegerSchema().format("int64"));
+
+        Assert.assertTrue(((CopyOnWriteMap<String, Object>) first.getVendorExtensions()).isShared());
+        Assert.assertEquals(second.getVendorExtensions(), first.getVendorExtensions());
+        Assert.assertTrue(((CopyOnWriteMap<String, Object>) second.getVendorExtensions()).isShared());
+
+        first.getVendorExtensions().put(CodegenConstants.IS_LONG_EXT_NAME, Boolean.TRUE);
+        Assert.assertTrue(((CopyOnWriteMap<String, Object>) first.getVendorExtensions()).isShared());
+        first.getVendorExtensions().put("x-custom", "value");
+        Assert.assertFalse(((CopyOnWriteMap<String, Object>) first.getVendorExtensions()).isShared());
+        Assert.assertNull(second.getVendorExtensions().get("x-custom"));
+    }
+
+    @Test
+    public void testLanguageTablesAreSharedUntilChanged() {
+        final DefaultCodegenConfig first = new P_DefaultCodegenConfig();
+        final DefaultCodegenConfig second = new P_DefaultCodegenConfig();
+        Assert.assertTrue(((CopyOnWriteMap<String, String>) first.typeMapping()).isShared());
+        Assert.assertTrue(((CopyOnWriteMap<String, String>) second.importMapping()).isShared());
+
+        first.typeMapping().put("string", "CharSequence");
+        first.importMapping().remove("UUID");
+        Assert.assertEquals(first.typeMapping().get("string"), "CharSequence");
+        Assert.assertEquals(second.typeMapping().get("string"), "String");
+        Assert.assertNull(first.importMapping().get("UUID"));
+        Assert.assertEquals(second.importMapping().get("UUID"), "java.util.UUID");
+        Assert.assertTrue(((CopyOnWriteMap<String, String>) second.typeMapping()).isShared());
+    }
+
+    @Test
+    public void testLanguageArgumentsAreParsedOnce() {
+        final String key = ArgumentsCodegenConfig.class.getName() + ":/arguments/java.yaml";
+        DefaultCodegenConfig.LANGUAGE_ARGUMENTS.remove(key);
+
+        final List<CodegenArgument> first = new ArgumentsCodegenConfig().readLanguageArguments();
+        final Optional<List<CodegenArgument>> parsed = DefaultCodegenConfig.LANGUAGE_ARGUMENTS.get(key);
+        Assert.assertNotNull(parsed);
+        Assert.assertFalse(first.isEmpty());
+
+        // every field of the parsed arguments is copied, values included
+        final CodegenArgument cached = parsed.get().get(0);
+        cached.setValue("cached");
+        final List<CodegenArgument> second = new ArgumentsCodegenConfig().readLanguageArguments();
+
+        Assert.assertSame(DefaultCodegenConfig.LANGUAGE_ARGUMENTS.get(key), parsed);
+        Assert.assertEquals(second.size(), first.size());
+        Assert.assertNotSame(second.get(0), cached);
+        Assert.assertNotSame(second.get(0), first.get(0));
+        Assert.assertEquals(second.get(0).getOption(), cached.getOption());
+        Assert.assertEquals(second.get(0).getShortOption(), cached.getShortOption());
+        Assert.assertEquals(second.get(0).getDescription(), cached.getDescription());
+        Assert.assertEquals(second.get(0).getType(), cached.getType());
+        Assert.assertEquals(second.get(0).getArray(), cached.getArray());
+        Assert.assertEquals(second.get(0).getValue(), "cached");
+    }
+
     @Test(dataProvider = "testCommonPrefixProvider")
     public void testCommonPrefix(List<Object> vars, String expectedPrefix) {
         DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
@@ -328,6 +444,9 @@ public class DefaultCodegenConfigTest {
         };
     }
 
+    private static class ArgumentsCodegenConfig extends JavaClientCodegen {
+    }
+
     private static class P_DefaultCodegenConfig extends DefaultCodegenConfig{
         @Override
         public String getArgumentsLocation() {
@@ -0,0 +1,49 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.CodegenType;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.ServiceLoader;
+
+public class GeneratorIndexTest {
+
+    @Test(description = "verify that every registered generator is listed and constructed from the index")
+    public void testRegisteredGeneratorsAreIndexed() {
+        final GeneratorIndex index = GeneratorIndex.getInstance();
+        int registered = 0;
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class)) {
+            final GeneratorMetadata generator = index.getGenerator(config.getName());
+            Assert.assertNotNull(generator, "Generator " + config.getName() + " is not indexed");
+            Assert.assertEquals(generator.getClassName(), config.getClass().getName());
+            Assert.assertEquals(generator.getType(), config.getTag());
+            Assert.assertEquals(generator.getLibraries(), new ArrayList<>(config.supportedLibraries().keySet()));
+
+            final CodegenConfig created = index.newGenerator(config.getName());
+            Assert.assertEquals(created.getClass(), config.getClass());
+            Assert.assertEquals(created.getTag(), config.getTag());
+            registered++;
+        }
+        Assert.assertEquals(index.getGenerators().size(), registered);
+    }
+
+    @Test(description = "verify that generators are listed by type")
+    public void testGeneratorsByType() {
+        final GeneratorIndex index = GeneratorIndex.getInstance();
+        final GeneratorMetadata java = index.getGenerator("java");
+        Assert.assertNotNull(java);
+        Assert.assertEquals(java.getType(), CodegenType.CLIENT);
+        Assert.assertTrue(java.getLibraries().contains("okhttp-gson"));
+        Assert.assertTrue(index.getGenerators(CodegenType.CLIENT).contains(java));
+        Assert.assertFalse(index.getGenerators(CodegenType.SERVER).contains(java));
+        Assert.assertTrue(index.newGenerator("java") instanceof JavaClientCodegen);
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void testUnknownGenerator() {
+        GeneratorIndex.getInstance().newGenerator("unknown");
+    }
+}
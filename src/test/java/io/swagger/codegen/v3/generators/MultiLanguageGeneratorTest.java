@@ -0,0 +1,70 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.codegen.v3.generators.python.PythonClientCodegen;
+import io.swagger.codegen.v3.generators.util.OpenAPICopier;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.junit.rules.TemporaryFolder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+public class MultiLanguageGeneratorTest {
+
+    @Test(description = "verify that a copied specification keeps the parsed schema classes")
+    public void testCopy() throws Exception {
+        final OpenAPI openAPI = MultiLanguageGenerator.parse("src/test/resources/3_0_0/binaryDataTest.json");
+        final OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+        Assert.assertNotSame(copy, openAPI);
+        Assert.assertEquals(Json.pretty(copy), Json.pretty(openAPI));
+
+        final Schema schema = openAPI.getPaths().get("/tests/binaryResponse").getPost().getRequestBody()
+                .getContent().get("application/octet-stream").getSchema();
+        final Schema copiedSchema = copy.getPaths().get("/tests/binaryResponse").getPost().getRequestBody()
+                .getContent().get("application/octet-stream").getSchema();
+        Assert.assertNotSame(copiedSchema, schema);
+        Assert.assertEquals(copiedSchema.getClass(), schema.getClass());
+    }
+
+    @Test(description = "verify that languages are generated from one parsed specification without modifying it")
+    public void testGenerate() throws Exception {
+        final TemporaryFolder folder = new TemporaryFolder();
+        folder.create();
+        final OpenAPI openAPI = MultiLanguageGenerator.parse("src/test/resources/3_0_0/petstore.yaml");
+        final String spec = Json.pretty(openAPI);
+
+        final CodegenConfig java = new JavaClientCodegen();
+        java.setOutputDir(new File(folder.getRoot(), "java").getAbsolutePath());
+        final MultiLanguageGenerator generator = new MultiLanguageGenerator(openAPI)
+                .config(java)
+                .threads(2);
+        final CodegenConfig python = generator.config("python", new File(folder.getRoot(), "python").getAbsolutePath());
+        Assert.assertTrue(python instanceof PythonClientCodegen);
+
+        final Map<String, List<File>> files = generator.generate();
+
+        Assert.assertEquals(files.size(), 2);
+        Assert.assertTrue(new File(folder.getRoot(), "java/src/main/java/io/swagger/client/model/Pet.java").exists());
+        Assert.assertTrue(new File(folder.getRoot(), "python/swagger_client/models/pet.py").exists());
+        Assert.assertEquals(Json.pretty(openAPI), spec);
+
+        folder.delete();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testSameOutputFolder() {
+        final CodegenConfig java = new JavaClientCodegen();
+        java.setOutputDir("target/same");
+        final CodegenConfig python = new PythonClientCodegen();
+        python.setOutputDir("target/same");
+
+        new MultiLanguageGenerator(new OpenAPI()).config(java).config(python).generate();
+    }
+}
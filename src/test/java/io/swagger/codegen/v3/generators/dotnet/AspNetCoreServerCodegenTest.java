@@ -1,15 +1,22 @@
 package io.swagger.codegen.v3.generators.dotnet;
 
+import io.swagger.codegen.v3.ClientOptInput;
 import io.swagger.codegen.v3.CodegenConfig;
 import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenProperty;
+import io.swagger.codegen.v3.DefaultGenerator;
+import io.swagger.codegen.v3.config.CodegenConfigurator;
 import io.swagger.codegen.v3.generators.AbstractCodegenTest;
 import io.swagger.codegen.v3.generators.CodegenWrapper;
 import io.swagger.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.File;
+
 public class AspNetCoreServerCodegenTest extends AbstractCodegenTest {
 
     @Test(description = "Verify if List<> is fixed for array schema with composed items.")
@@ -32,4 +39,43 @@ public class AspNetCoreServerCodegenTest extends AbstractCodegenTest {
         Assert.assertEquals(codegenProperty.datatype, "List<OneOfHousePetsItems>");
 
     }
+
+    @Test
+    public void minimalApiSupportingFiles() {
+        final AspNetCoreServerCodegen config = new AspNetCoreServerCodegen();
+        config.additionalProperties().put("aspnet-core-version", "8.0");
+        config.additionalProperties().put("native-aot", true);
+        config.processOpts();
+
+        Assert.assertEquals(config.additionalProperties().get("nativeAot"), Boolean.TRUE);
+        Assert.assertTrue(config.apiTemplateFiles().containsKey("8.0/endpoints.mustache"));
+        Assert.assertTrue(config.modelTemplateFiles().containsKey("8.0/model.mustache"));
+        Assert.assertTrue(config.supportingFiles().stream()
+            .anyMatch(file -> "AppJsonSerializerContext.cs".equals(file.destinationFilename)));
+        Assert.assertFalse(config.supportingFiles().stream()
+            .anyMatch(file -> "Startup.cs".equals(file.destinationFilename)));
+    }
+
+    @Test(description = "verify that only generated model classes are registered in the json serializer context")
+    public void minimalApiJsonContextSkipsAliases() throws Exception {
+        final TemporaryFolder folder = new TemporaryFolder();
+        folder.create();
+        final File output = folder.getRoot();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setLang("aspnetcore")
+            .addAdditionalProperty("aspnet-core-version", "8.0")
+            .setInputSpecURL("src/test/resources/3_0_0/petstore.yaml")
+            .setOutputDir(output.getAbsolutePath());
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        new DefaultGenerator().opts(clientOptInput).generate();
+
+        final String content = FileUtils.readFileToString(new File(output, "src/IO.Swagger/AppJsonSerializerContext.cs"));
+        Assert.assertTrue(content.contains("[JsonSerializable(typeof(Pet))]"));
+        // "Test" is an alias of string, no class is generated for it
+        Assert.assertFalse(content.contains("typeof(Test)"));
+
+        folder.delete();
+    }
 }
@@ -1,14 +1,21 @@
 package io.swagger.codegen.v3.generators.dotnet;
 
+import io.swagger.codegen.v3.ClientOptInput;
 import io.swagger.codegen.v3.CodegenConfig;
 import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.DefaultGenerator;
 import io.swagger.codegen.v3.ISchemaHandler;
+import io.swagger.codegen.v3.config.CodegenConfigurator;
 import io.swagger.codegen.v3.generators.AbstractCodegenTest;
 import io.swagger.codegen.v3.generators.CodegenWrapper;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.File;
+
 public class CSharpClientCodegenTest extends AbstractCodegenTest {
 
     @Test
@@ -58,4 +65,40 @@ public class CSharpClientCodegenTest extends AbstractCodegenTest {
         codegenModel = codegenWrapper.getAllModels().get("ModelList");
         Assert.assertNotNull(codegenModel);
     }
+
+    @Test
+    public void httpClientLibrarySupportingFiles() {
+        final CSharpClientCodegen config = new CSharpClientCodegen();
+        config.setLibrary(CSharpClientCodegen.HTTP_CLIENT_LIBRARY);
+        config.processOpts();
+
+        Assert.assertEquals(config.additionalProperties().get("targetFrameworkNuget"), "net8.0");
+        Assert.assertTrue(config.supportingFiles().stream()
+            .anyMatch(file -> "ApiJsonContext.cs".equals(file.destinationFilename)));
+        Assert.assertFalse(config.supportingFiles().stream()
+            .anyMatch(file -> "IApiAccessor.cs".equals(file.destinationFilename)));
+    }
+
+    @Test(description = "verify that only generated model classes are registered in the json serializer context")
+    public void httpClientJsonContextSkipsAliases() throws Exception {
+        final TemporaryFolder folder = new TemporaryFolder();
+        folder.create();
+        final File output = folder.getRoot();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setLang("csharp")
+            .setLibrary(CSharpClientCodegen.HTTP_CLIENT_LIBRARY)
+            .setInputSpecURL("src/test/resources/3_0_0/petstore.yaml")
+            .setOutputDir(output.getAbsolutePath());
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        new DefaultGenerator().opts(clientOptInput).generate();
+
+        final String content = FileUtils.readFileToString(new File(output, "src/IO.Swagger/Client/ApiJsonContext.cs"));
+        Assert.assertTrue(content.contains("[JsonSerializable(typeof(Pet))]"));
+        // "Test" is an alias of string, no class is generated for it
+        Assert.assertFalse(content.contains("typeof(Test)"));
+
+        folder.delete();
+    }
 }
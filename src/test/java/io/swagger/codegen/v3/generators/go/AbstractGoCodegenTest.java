@@ -0,0 +1,110 @@
+package io.swagger.codegen.v3.generators.go;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AbstractGoCodegenTest {
+
+    @Test(description = "verify how the json codecs encode scalar, list and map properties")
+    public void jsonCodecExtensions() {
+        final Map<String, Schema> schemas = new LinkedHashMap<>();
+        schemas.put("Tag", new ObjectSchema()
+            .addProperties("name", new StringSchema()));
+        schemas.put("Pet", new ObjectSchema()
+            .addProperties("id", new IntegerSchema().format("int64"))
+            .addProperties("name", new StringSchema())
+            .addProperties("photoUrls", new ArraySchema().items(new StringSchema()))
+            .addProperties("tags", new ArraySchema().items(new Schema().$ref("#/components/schemas/Tag")))
+            .addProperties("scores", new MapSchema().additionalProperties(new IntegerSchema()))
+            .addProperties("attributes", new MapSchema().additionalProperties(new ArraySchema().items(new StringSchema())))
+            .required(Collections.singletonList("name")));
+
+        final GoClientCodegen codegen = new GoClientCodegen();
+        codegen.setJsonCodecs(true);
+        final Map<String, Object> objs = new HashMap<>();
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            final CodegenModel model = codegen.fromModel(entry.getKey(), entry.getValue(), schemas);
+            final Map<String, Object> modelObjs = new HashMap<>();
+            modelObjs.put("models", Collections.singletonList(Collections.singletonMap("model", model)));
+            objs.put(entry.getKey(), modelObjs);
+        }
+        codegen.postProcessAllModels(objs);
+
+        final CodegenModel pet = getModel(objs, "Pet");
+        Assert.assertEquals(pet.getVendorExtensions().get("x-has-json-codec"), Boolean.TRUE);
+
+        final Map<String, Object> id = getProperty(pet, "id").getVendorExtensions();
+        Assert.assertEquals(id.get("x-json-scalar"), "Int64");
+        Assert.assertEquals(id.get("x-json-value"), "m.Id");
+        Assert.assertEquals(id.get("x-json-omit"), "m.Id != 0");
+
+        // required properties are always written
+        final Map<String, Object> name = getProperty(pet, "name").getVendorExtensions();
+        Assert.assertEquals(name.get("x-json-scalar"), "String");
+        Assert.assertNull(name.get("x-json-omit"));
+
+        final Map<String, Object> photoUrls = getProperty(pet, "photoUrls").getVendorExtensions();
+        Assert.assertEquals(photoUrls.get("x-json-is-list"), Boolean.TRUE);
+        Assert.assertEquals(photoUrls.get("x-json-item-scalar"), "String");
+        Assert.assertEquals(photoUrls.get("x-json-item-go-type"), "string");
+        Assert.assertEquals(photoUrls.get("x-json-omit"), "len(m.PhotoUrls) != 0");
+
+        final Map<String, Object> tags = getProperty(pet, "tags").getVendorExtensions();
+        Assert.assertEquals(tags.get("x-json-is-list"), Boolean.TRUE);
+        Assert.assertEquals(tags.get("x-json-item-model"), "Tag");
+
+        final Map<String, Object> scores = getProperty(pet, "scores").getVendorExtensions();
+        Assert.assertEquals(scores.get("x-json-is-map"), Boolean.TRUE);
+        Assert.assertEquals(scores.get("x-json-item-scalar"), "Int32");
+
+        // nested containers are left to encoding/json
+        final Map<String, Object> attributes = getProperty(pet, "attributes").getVendorExtensions();
+        Assert.assertEquals(attributes.get("x-json-is-raw"), Boolean.TRUE);
+        Assert.assertNull(attributes.get("x-json-is-map"));
+    }
+
+    @Test(description = "verify that no codec is generated when the option is off")
+    public void jsonCodecsDisabled() {
+        final Map<String, Schema> schemas = Collections.singletonMap("Tag", new ObjectSchema()
+            .addProperties("name", new StringSchema()));
+
+        final GoClientCodegen codegen = new GoClientCodegen();
+        final CodegenModel model = codegen.fromModel("Tag", schemas.get("Tag"), schemas);
+        final Map<String, Object> modelObjs = new HashMap<>();
+        modelObjs.put("models", Collections.singletonList(Collections.singletonMap("model", model)));
+        final Map<String, Object> objs = new HashMap<>();
+        objs.put("Tag", modelObjs);
+        codegen.postProcessAllModels(objs);
+
+        Assert.assertNull(model.getVendorExtensions().get("x-has-json-codec"));
+        Assert.assertNull(getProperty(model, "name").getVendorExtensions().get("x-json-scalar"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CodegenModel getModel(Map<String, Object> objs, String name) {
+        final Map<String, Object> modelObjs = (Map<String, Object>) objs.get(name);
+        final Map<String, Object> model = (Map<String, Object>) ((List<Object>) modelObjs.get("models")).get(0);
+        return (CodegenModel) model.get("model");
+    }
+
+    private static CodegenProperty getProperty(CodegenModel model, String baseName) {
+        return model.vars.stream()
+            .filter(property -> baseName.equals(property.baseName))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("missing property " + baseName));
+    }
+}
@@ -0,0 +1,123 @@
+package io.swagger.codegen.v3.generators.go;
+
+import io.swagger.codegen.v3.CodegenOperation;
+import io.swagger.codegen.v3.CodegenParameter;
+import io.swagger.codegen.v3.generators.AbstractCodegenTest;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GoServerCodegenTest extends AbstractCodegenTest {
+
+    private static final String PATH = "/pets/{pet-id}/photos/{1st}";
+
+    @Test(description = "verify the ServeMux wildcards and the binders of path parameters with net/http")
+    public void testServeMuxPathParameters() {
+        final CodegenOperation operation = processOperation(true);
+
+        Assert.assertEquals(operation.getVendorExtensions().get("x-serve-mux-path"), "/pets/{pet_id}/photos/{_1st}");
+        Assert.assertEquals(operation.getVendorExtensions().get("x-bind-mux-vars"), Boolean.FALSE);
+
+        final Map<String, Object> petId = getParameter(operation.pathParams, "pet-id").getVendorExtensions();
+        Assert.assertEquals(petId.get("x-bind-source"), "presentValue(r.PathValue(\"pet_id\"))");
+        Assert.assertEquals(petId.get("x-bind-parse"), "Int64");
+        Assert.assertEquals(getParameter(operation.pathParams, "1st").getVendorExtensions().get("x-bind-source"),
+                "presentValue(r.PathValue(\"_1st\"))");
+    }
+
+    @Test(description = "verify the binders of path parameters with gorilla/mux")
+    public void testGorillaPathParameters() {
+        final CodegenOperation operation = processOperation(false);
+
+        Assert.assertEquals(operation.getVendorExtensions().get("x-bind-mux-vars"), Boolean.TRUE);
+        final Map<String, Object> petId = getParameter(operation.pathParams, "pet-id").getVendorExtensions();
+        Assert.assertEquals(petId.get("x-bind-source"), "presentValue(vars[\"pet-id\"])");
+        Assert.assertEquals(petId.get("x-bind-in"), "path");
+    }
+
+    @Test(description = "verify that header names are canonicalized like net/http does")
+    public void testCanonicalHeaderNames() {
+        final CodegenOperation operation = processOperation(true);
+
+        Assert.assertEquals(getParameter(operation.headerParams, "x-request-id").getVendorExtensions().get("x-bind-source"),
+                "presentValue(r.Header.Get(\"X-Request-Id\"))");
+        Assert.assertEquals(getParameter(operation.headerParams, "api_key").getVendorExtensions().get("x-bind-source"),
+                "presentValue(r.Header.Get(\"Api_key\"))");
+    }
+
+    @Test(description = "verify the binder selected for each parameter type")
+    @SuppressWarnings("unchecked")
+    public void testBinderSelection() {
+        final CodegenOperation operation = processOperation(true);
+        Assert.assertEquals(operation.getVendorExtensions().get("x-has-request-binder"), Boolean.TRUE);
+
+        final Map<String, Object> limit = getParameter(operation.queryParams, "limit").getVendorExtensions();
+        Assert.assertEquals(limit.get("x-bind-source"), "queryValue(r.URL.RawQuery, \"limit\")");
+        Assert.assertEquals(limit.get("x-bind-parse"), "Int32");
+
+        final Map<String, Object> tags = getParameter(operation.queryParams, "tags").getVendorExtensions();
+        Assert.assertEquals(tags.get("x-bind-values"), "appendQueryValues(p.values[:0], r.URL.RawQuery, \"tags\", ',')");
+        Assert.assertEquals(tags.get("x-bind-parse"), "String");
+        Assert.assertEquals(tags.get("x-bind-reuse"), Boolean.TRUE);
+
+        Assert.assertEquals(getParameter(operation.queryParams, "sizes").getVendorExtensions().get("x-bind-values"),
+                "appendQueryValues(p.values[:0], r.URL.RawQuery, \"sizes\", '|')");
+        Assert.assertEquals(getParameter(operation.queryParams, "ids").getVendorExtensions().get("x-bind-values"),
+                "appendQueryValues(p.values[:0], r.URL.RawQuery, \"ids\", 0)");
+
+        // maps have no parse helper and are left unbound
+        Assert.assertNull(getParameter(operation.queryParams, "filter").getVendorExtensions().get("x-bind-field"));
+
+        Assert.assertEquals(operation.bodyParam.getVendorExtensions().get("x-bind-from-body"), Boolean.TRUE);
+        Assert.assertEquals(operation.bodyParam.getVendorExtensions().get("x-bind-reuse"), Boolean.FALSE);
+
+        final List<CodegenParameter> boundParams = (List<CodegenParameter>) operation.getVendorExtensions().get("x-bound-params");
+        Assert.assertEquals(boundParams.size(), 9);
+        Assert.assertFalse(boundParams.contains(getParameter(operation.queryParams, "filter")));
+    }
+
+    @Test(description = "verify that no binder is generated when the option is off")
+    public void testRequestBindersDisabled() {
+        final GoServerCodegen codegen = new GoServerCodegen();
+        codegen.setHttpServeMux(true);
+        final CodegenOperation operation = processOperation(codegen);
+
+        Assert.assertEquals(operation.getVendorExtensions().get("x-serve-mux-path"), "/pets/{pet_id}/photos/{_1st}");
+        Assert.assertNull(operation.getVendorExtensions().get("x-has-request-binder"));
+        Assert.assertNull(getParameter(operation.pathParams, "pet-id").getVendorExtensions().get("x-bind-source"));
+    }
+
+    private CodegenOperation processOperation(boolean httpServeMux) {
+        final GoServerCodegen codegen = new GoServerCodegen();
+        codegen.setRequestBinders(true);
+        codegen.setHttpServeMux(httpServeMux);
+        return processOperation(codegen);
+    }
+
+    private CodegenOperation processOperation(GoServerCodegen codegen) {
+        final OpenAPI openAPI = getOpenAPI("src/test/resources/3_0_0/go-server-binders.yaml");
+        final Operation operation = openAPI.getPaths().get(PATH).getPost();
+        final CodegenOperation codegenOperation = codegen.fromOperation(PATH, "post", operation,
+                openAPI.getComponents().getSchemas(), openAPI);
+
+        final Map<String, Object> operations = new HashMap<>();
+        operations.put("operation", Collections.singletonList(codegenOperation));
+        final Map<String, Object> objs = new HashMap<>();
+        objs.put("operations", operations);
+        codegen.postProcessOperations(objs);
+        return codegenOperation;
+    }
+
+    private static CodegenParameter getParameter(List<CodegenParameter> parameters, String baseName) {
+        return parameters.stream()
+            .filter(parameter -> baseName.equals(parameter.baseName))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("missing parameter " + baseName));
+    }
+}
@@ -0,0 +1,49 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import io.swagger.codegen.v3.generators.handlebars.csharp.CsharpHelper;
+import io.swagger.codegen.v3.generators.handlebars.java.JavaHelper;
+import io.swagger.codegen.v3.generators.handlebars.lambda.IndentedLambda;
+import io.swagger.codegen.v3.generators.handlebars.lambda.TitlecaseLambda;
+import io.swagger.codegen.v3.generators.handlebars.lambda.UppercaseLambda;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+public class HelpersStatelessTest {
+
+    @DataProvider(name = "sharedHelpers")
+    public Object[][] sharedHelpers() {
+        return new Object[][]{
+                {IsHelper.class},
+                {HasHelper.class},
+                {IsNotHelper.class},
+                {HasNotHelper.class},
+                {NoneExtensionHelper.class},
+                {BracesHelper.class},
+                {BaseItemsHelper.class},
+                {NotEmptyHelper.class},
+                {StringUtilHelper.class},
+                {JavaHelper.class},
+                {CsharpHelper.class},
+                {IndentedLambda.class},
+                {TitlecaseLambda.class},
+                {UppercaseLambda.class}
+        };
+    }
+
+    @Test(dataProvider = "sharedHelpers", description = "verify that helpers shared by template engines keep no mutable state")
+    public void testHelperIsStateless(Class<?> helperClass) {
+        for (Class<?> type = helperClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isSynthetic()) {
+                    continue;
+                }
+                Assert.assertTrue(Modifier.isFinal(field.getModifiers()),
+                        String.format("%s.%s must be final to share %s across renderings", type.getSimpleName(), field.getName(), helperClass.getSimpleName()));
+            }
+        }
+    }
+}
@@ -50,6 +50,8 @@ public class JavaInflectorServerOptionsTest extends AbstractOptionsTest {
             times = 1;
             clientCodegen.setUseOas2(true);
             times = 1;
+            clientCodegen.setNativeImage(Boolean.valueOf(JavaInflectorServerOptionsProvider.NATIVE_IMAGE_VALUE));
+            times = 1;
         }};
     }
 }
@@ -5,14 +5,22 @@ import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -97,6 +105,38 @@ public class AbstractJavaCodegenTest {
         Assert.assertNotNull(openAPI.getPaths().get("dummy").getPost().getExtensions().get("x-contentType"));
     }
 
+    @Test
+    public void preprocessSwaggerRenamesModelsDuplicatedIgnoringCase() {
+        Schema pet = new ObjectSchema().addProperties("owner", new Schema().$ref("#/components/schemas/PET"));
+        Schema petList = new ObjectSchema().addProperties("pet", new Schema().$ref("#/components/schemas/Pet"));
+        OpenAPI openAPI = new OpenAPI()
+                .components(new Components()
+                        .addSchemas("Pet", new ObjectSchema())
+                        .addSchemas("pet", pet)
+                        .addSchemas("PET", new ObjectSchema())
+                        .addSchemas("petList", petList))
+                .path("/pets", new PathItem()
+                        .post(new Operation()
+                                .requestBody(new RequestBody().content(new Content()
+                                        .addMediaType("application/json", new MediaType().schema(new Schema().$ref("#/components/schemas/pet")))))
+                                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().content(new Content()
+                                        .addMediaType("application/json", new MediaType().schema(new Schema().$ref("#/components/schemas/petList"))))))));
+
+        final AbstractJavaCodegen codegen = new P_AbstractJavaCodegen();
+        codegen.additionalProperties().put(AbstractJavaCodegen.CHECK_DUPLICATED_MODEL_NAME, "true");
+        codegen.preprocessOpenAPI(openAPI);
+
+        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        Assert.assertEquals(new ArrayList<>(schemas.keySet()), Arrays.asList("Pet", "petList", "pet1", "PET2"));
+        Map<String, Schema> pet1Properties = schemas.get("pet1").getProperties();
+        Assert.assertEquals(pet1Properties.get("owner").get$ref(), "#/components/schemas/PET2");
+        Map<String, Schema> petListProperties = schemas.get("petList").getProperties();
+        Assert.assertEquals(petListProperties.get("pet").get$ref(), "#/components/schemas/Pet");
+        Operation operation = openAPI.getPaths().get("/pets").getPost();
+        Assert.assertEquals(operation.getRequestBody().getContent().get("application/json").getSchema().get$ref(), "#/components/schemas/pet1");
+        Assert.assertEquals(operation.getResponses().get("200").getContent().get("application/json").getSchema().get$ref(), "#/components/schemas/petList");
+    }
+
     @Test
      public void convertVarName() throws Exception {
         Assert.assertEquals(fakeJavaCodegen.toVarName("name"), "name");
@@ -1,14 +1,24 @@
 package io.swagger.codegen.v3.generators.java;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 import io.swagger.codegen.v3.CodegenConfig;
 import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenModelFactory;
 import io.swagger.codegen.v3.CodegenModelType;
+import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenSchema;
+import io.swagger.codegen.v3.DefaultGenerator;
 import io.swagger.codegen.v3.ISchemaHandler;
+import io.swagger.codegen.v3.config.CodegenConfigurator;
 import io.swagger.codegen.v3.generators.AbstractCodegenTest;
 import io.swagger.codegen.v3.generators.CodegenWrapper;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
@@ -19,6 +29,7 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Discriminator;
 import io.swagger.v3.oas.models.media.IntegerSchema;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.ObjectSchema;
@@ -29,11 +40,16 @@ import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
+import org.junit.rules.TemporaryFolder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import javax.tools.ToolProvider;
 import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -343,4 +359,201 @@ public class JavaClientCodegenTest extends AbstractCodegenTest {
 
         Assert.assertTrue(hasComposedModel);
     }
+
+    @Test
+    public void testMarkStreamListResponses() {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+
+        final CodegenOperation listOperation = new CodegenOperation();
+        listOperation.returnBaseType = "Pet";
+        listOperation.getVendorExtensions().put(CodegenConstants.IS_LIST_CONTAINER_EXT_NAME, Boolean.TRUE);
+
+        final CodegenOperation singleOperation = new CodegenOperation();
+        singleOperation.returnBaseType = "Pet";
+
+        final CodegenOperation binaryOperation = new CodegenOperation();
+        binaryOperation.returnBaseType = "byte[]";
+        binaryOperation.getVendorExtensions().put(CodegenConstants.IS_LIST_CONTAINER_EXT_NAME, Boolean.TRUE);
+
+        final List<CodegenOperation> operations = new ArrayList<>();
+        operations.add(listOperation);
+        operations.add(singleOperation);
+        operations.add(binaryOperation);
+        codegen.markStreamListResponses(operations);
+
+        Assert.assertEquals(listOperation.getVendorExtensions().get(AbstractJavaCodegen.STREAM_LIST_RESPONSE_EXT_NAME), Boolean.TRUE);
+        Assert.assertNull(singleOperation.getVendorExtensions().get(AbstractJavaCodegen.STREAM_LIST_RESPONSE_EXT_NAME));
+        Assert.assertNull(binaryOperation.getVendorExtensions().get(AbstractJavaCodegen.STREAM_LIST_RESPONSE_EXT_NAME));
+    }
+
+    @Test
+    public void testNativeImageMetadata() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.additionalProperties().put(AbstractJavaCodegen.NATIVE_IMAGE, "true");
+        codegen.additionalProperties().put(CodegenConstants.MODEL_PACKAGE, "io.swagger.model");
+        codegen.additionalProperties().put(CodegenConstants.API_PACKAGE, "io.swagger.api");
+        codegen.additionalProperties().put(CodegenConstants.GROUP_ID, "io.swagger");
+        codegen.additionalProperties().put(CodegenConstants.ARTIFACT_ID, "petstore");
+        codegen.processOpts();
+
+        final CodegenProperty status = new CodegenProperty();
+        status.datatypeWithEnum = "StatusEnum";
+        status.getVendorExtensions().put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE);
+        final CodegenModel dog = new CodegenModel();
+        dog.classname = "Dog";
+        final CodegenModel pet = new CodegenModel();
+        pet.classname = "Pet";
+        pet.vars = Collections.singletonList(status);
+        pet.children = Collections.singletonList(dog);
+
+        final Map<String, Object> operations = new HashMap<>();
+        operations.put("classname", "PetApi");
+        final Map<String, Object> api = new HashMap<>();
+        api.put("baseName", "Pet");
+        api.put("operations", operations);
+        final Map<String, Object> apiInfo = new HashMap<>();
+        apiInfo.put("apis", Collections.singletonList(api));
+        final Map<String, Object> objs = new HashMap<>();
+        objs.put("models", Collections.singletonList(Collections.singletonMap("model", pet)));
+        objs.put("apiInfo", apiInfo);
+        codegen.postProcessSupportingFileData(objs);
+
+        final String folder = "src/main/resources/META-INF/native-image/io.swagger/petstore".replace('/', File.separatorChar);
+        Assert.assertTrue(codegen.supportingFiles().stream().anyMatch(file -> folder.equals(file.folder)
+                && "reflect-config.json".equals(file.destinationFilename)));
+        Assert.assertTrue(codegen.supportingFiles().stream().anyMatch(file -> folder.equals(file.folder)
+                && "resource-config.json".equals(file.destinationFilename)));
+
+        final List<String> names = new ArrayList<>();
+        for (JsonNode entry : Json.mapper().readTree((String) objs.get("nativeImageReflectConfig"))) {
+            names.add(entry.get("name").asText());
+        }
+        Assert.assertEquals(names, Arrays.asList("io.swagger.model.Pet", "io.swagger.model.Pet$StatusEnum",
+                "io.swagger.model.Pet$StatusEnum$Adapter", "io.swagger.model.Dog", "io.swagger.api.PetApi"));
+        Assert.assertTrue(Json.mapper().readTree((String) objs.get("nativeImageResourceConfig")).has("resources"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testJacksonCodecs() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary("jersey2");
+        codegen.additionalProperties().put(AbstractJavaCodegen.JACKSON_CODECS, "true");
+        codegen.processOpts();
+
+        Assert.assertTrue(codegen.supportingFiles().stream().anyMatch(file -> "JsonCodecModule.java".equals(file.destinationFilename)));
+
+        final CodegenProperty petType = new CodegenProperty();
+        petType.name = "petType";
+        petType.baseName = "petType";
+        petType.datatype = "String";
+        petType.required = true;
+        final CodegenProperty tags = new CodegenProperty();
+        tags.name = "tags";
+        tags.baseName = "tags";
+        tags.datatype = "List<String>";
+        final CodegenModel pet = new CodegenModel();
+        pet.name = "Pet";
+        pet.classname = "Pet";
+        pet.discriminator = new Discriminator().propertyName("petType");
+        pet.vars = Arrays.asList(petType, tags);
+        final CodegenProperty packSize = new CodegenProperty();
+        packSize.name = "packSize";
+        packSize.baseName = "packSize";
+        packSize.datatype = "Integer";
+        final CodegenModel dog = new CodegenModel();
+        dog.name = "Dog";
+        dog.classname = "Dog";
+        dog.parent = "Pet";
+        dog.parentModel = pet;
+        dog.vars = Collections.singletonList(packSize);
+        pet.children = Collections.singletonList(dog);
+
+        final Map<String, Object> objs = new HashMap<>();
+        objs.put("models", Arrays.asList(Collections.singletonMap("model", pet), Collections.singletonMap("model", dog)));
+        codegen.postProcessSupportingFileData(objs);
+
+        final List<Map<String, Object>> codecs = (List<Map<String, Object>>) objs.get("jsonCodecs");
+        Assert.assertEquals(codecs.size(), 2);
+        Assert.assertEquals(codecs.get(0).get("typeProperty"), "petType");
+        Assert.assertEquals(((List<Map<String, Object>>) codecs.get(0).get("subtypes")).get(0).get("typeId"), "Dog");
+        final List<Map<String, Object>> fields = (List<Map<String, Object>>) codecs.get(1).get("fields");
+        Assert.assertEquals(fields.size(), 3);
+        Assert.assertEquals(fields.get(0).get("discriminatorValue"), "Dog");
+        Assert.assertEquals(fields.get(1).get("typeConstant"), "TYPE_TAGS");
+        Assert.assertEquals(fields.get(2).get("readMethod"), "readInteger");
+        Assert.assertEquals(objs.get("jsonCodecImports"), Collections.singletonList("java.util.List"));
+    }
+
+    @Test(description = "verify that the generated codecs skip unknown object and array properties, or fail on them")
+    public void testJacksonCodecsRoundTrip() throws Exception {
+        final TemporaryFolder folder = new TemporaryFolder();
+        folder.create();
+        final File output = folder.getRoot();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setLang("java")
+                .setLibrary("jersey2")
+                .setInputSpecURL("src/test/resources/3_0_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath())
+                .addAdditionalProperty(AbstractJavaCodegen.JACKSON_CODECS, true)
+                .addAdditionalProperty(AbstractJavaCodegen.DATE_LIBRARY, "java8")
+                .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+        final File modelFolder = new File(output, "src/main/java/io/swagger/client/model");
+        final File classes = new File(output, "classes");
+        classes.mkdirs();
+        final List<String> arguments = new ArrayList<>(Arrays.asList("-nowarn", "-d", classes.getAbsolutePath(), "-classpath",
+                classPathOf(ObjectMapper.class, JsonParser.class, JsonProperty.class, io.swagger.v3.oas.annotations.media.Schema.class)));
+        for (File source : modelFolder.listFiles()) {
+            arguments.add(source.getAbsolutePath());
+        }
+        Assert.assertEquals(ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(new String[0])), 0);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {classes.toURI().toURL()}, getClass().getClassLoader())) {
+            final Class<?> petClass = classLoader.loadClass("io.swagger.client.model.Pet");
+            final Module module = (Module) classLoader.loadClass("io.swagger.client.model.JsonCodecModule").newInstance();
+            final String pet = "{\"id\":1,\"extra\":{\"z\":[1,2]},\"more\":[{\"q\":1}],\"name\":\"x\","
+                    + "\"photoUrls\":[\"a\"],\"tags\":[{\"id\":2,\"name\":\"t\"}],\"status\":\"sold\"}";
+            final String expected = "{\"id\":1,\"name\":\"x\",\"photoUrls\":[\"a\"],\"tags\":[{\"id\":2,\"name\":\"t\"}],\"status\":\"sold\"}";
+
+            final ObjectMapper mapper = new ObjectMapper().registerModule(module)
+                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+            final Object value = mapper.readValue(pet, petClass);
+            Assert.assertEquals(mapper.readTree(mapper.writeValueAsString(value)), mapper.readTree(expected));
+            Assert.assertEquals(mapper.readValue(mapper.writeValueAsString(value), petClass), value);
+
+            final ObjectMapper failingMapper = new ObjectMapper().registerModule(module)
+                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+            Assert.assertEquals(failingMapper.readValue(expected, petClass), value);
+            try {
+                failingMapper.readValue(pet, petClass);
+                Assert.fail("unknown property accepted");
+            } catch (UnrecognizedPropertyException e) {
+                Assert.assertEquals(e.getPropertyName(), "extra");
+            }
+        }
+
+        folder.delete();
+    }
+
+    private static String classPathOf(Class<?>... types) throws Exception {
+        final List<String> entries = new ArrayList<>();
+        for (Class<?> type : types) {
+            entries.add(new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getAbsolutePath());
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    @Test
+    public void testJacksonCodecsUnsupportedLibrary() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary("okhttp-gson");
+        codegen.additionalProperties().put(AbstractJavaCodegen.JACKSON_CODECS, "true");
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(AbstractJavaCodegen.JACKSON_CODECS), Boolean.FALSE);
+        Assert.assertFalse(codegen.supportingFiles().stream().anyMatch(file -> "JsonCodecModule.java".equals(file.destinationFilename)));
+    }
 }
@@ -148,4 +148,93 @@ public class SpringGeneratorCodegenTest extends AbstractCodegenTest {
         folder.delete();
     }
 
+    @Test(description = "verify that the spring-webflux library generates reactive controllers and clients")
+    public void testSpringWebfluxLibrary() throws Exception {
+        final TemporaryFolder folder = new TemporaryFolder();
+        folder.create();
+        final File output = folder.getRoot();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setLang("spring")
+            .setLibrary(SpringCodegen.SPRING_WEBFLUX_LIBRARY)
+            .setInputSpecURL("src/test/resources/3_0_0/petstore.yaml")
+            .setOutputDir(output.getAbsolutePath())
+            .addAdditionalProperty(SpringCodegen.REACTIVE_CLIENT, true);
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        new DefaultGenerator().opts(clientOptInput).generate();
+
+        final String petApi = FileUtils.readFileToString(new File(output, "/src/main/java/io/swagger/api/PetApi.java"));
+        Assert.assertTrue(petApi.contains("default Mono<ResponseEntity<Flux<Pet>>> findPetsByStatus("));
+        Assert.assertTrue(petApi.contains("default Mono<ResponseEntity<Pet>> getPetById("));
+        Assert.assertTrue(petApi.contains("ServerWebExchange exchange"));
+        Assert.assertFalse(petApi.contains("HttpServletRequest"));
+
+        final String petController = FileUtils.readFileToString(new File(output, "/src/main/java/io/swagger/api/PetApiController.java"));
+        Assert.assertTrue(petController.contains("public class PetApiController implements PetApi"));
+        Assert.assertFalse(petController.contains("HttpServletRequest"));
+        Assert.assertFalse(new File(output, "/src/main/java/io/swagger/api/ApiOriginFilter.java").exists());
+
+        final String petClient = FileUtils.readFileToString(new File(output, "/src/main/java/io/swagger/api/PetApiClient.java"));
+        Assert.assertTrue(petClient.contains("public Flux<Pet> findPetsByStatus(List<String> status)"));
+        Assert.assertTrue(petClient.contains("bodyToFlux(new ParameterizedTypeReference<Pet>() {})"));
+        Assert.assertTrue(petClient.contains("public Mono<Pet> getPetById(Long petId)"));
+
+        final String pom = FileUtils.readFileToString(new File(output, "pom.xml"));
+        Assert.assertTrue(pom.contains("spring-boot-starter-webflux"));
+
+        folder.delete();
+    }
+
+    @Test(description = "verify that virtual threads configure the embedded server and raise the java version")
+    public void testSpringVirtualThreads() throws Exception {
+        final TemporaryFolder folder = new TemporaryFolder();
+        folder.create();
+        final File output = folder.getRoot();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setLang("spring")
+            .setInputSpecURL("src/test/resources/3_0_0/petstore.yaml")
+            .setOutputDir(output.getAbsolutePath())
+            .addAdditionalProperty(AbstractJavaCodegen.VIRTUAL_THREADS, true);
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        new DefaultGenerator().opts(clientOptInput).generate();
+
+        final String configuration = FileUtils.readFileToString(new File(output, "/src/main/java/io/swagger/configuration/VirtualThreadsConfiguration.java"));
+        Assert.assertTrue(configuration.contains("Executors.newVirtualThreadPerTaskExecutor()"));
+
+        final String pom = FileUtils.readFileToString(new File(output, "pom.xml"));
+        Assert.assertTrue(pom.contains("<java.version>21</java.version>"));
+        Assert.assertTrue(pom.contains("<version>2.7.18</version>"));
+
+        folder.delete();
+    }
+
+    @Test(description = "verify that the spring-webflux library keeps the delegate pattern")
+    public void testSpringWebfluxDelegatePattern() throws Exception {
+        final TemporaryFolder folder = new TemporaryFolder();
+        folder.create();
+        final File output = folder.getRoot();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setLang("spring")
+            .setLibrary(SpringCodegen.SPRING_WEBFLUX_LIBRARY)
+            .setInputSpecURL("src/test/resources/3_0_0/petstore.yaml")
+            .setOutputDir(output.getAbsolutePath())
+            .addAdditionalProperty(SpringCodegen.DELEGATE_PATTERN, true);
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        new DefaultGenerator().opts(clientOptInput).generate();
+
+        final String petApi = FileUtils.readFileToString(new File(output, "/src/main/java/io/swagger/api/PetApi.java"));
+        Assert.assertTrue(petApi.contains("return getDelegate().findPetsByStatus(status, exchange);"));
+
+        final String petDelegate = FileUtils.readFileToString(new File(output, "/src/main/java/io/swagger/api/PetApiDelegate.java"));
+        Assert.assertTrue(petDelegate.contains("default Mono<ResponseEntity<Flux<Pet>>> findPetsByStatus("));
+        Assert.assertFalse(new File(output, "/src/main/java/io/swagger/api/PetApiClient.java").exists());
+
+        folder.delete();
+    }
+
 }
@@ -35,6 +35,10 @@ public class KotlinClientCodegenOptionsTest extends AbstractOptionsTest {
             codegen.setSourceFolder(KotlinClientCodegenOptionsProvider.SOURCE_FOLDER);
             times = 1;
             codegen.setDateLibrary(KotlinClientCodegenOptionsProvider.DATE_LIBRARY);
+            codegen.setMoshiCodegen(Boolean.valueOf(KotlinClientCodegenOptionsProvider.MOSHI_CODEGEN));
+            times = 1;
+            codegen.setCoroutines(Boolean.valueOf(KotlinClientCodegenOptionsProvider.COROUTINES));
+            times = 1;
         }};
     }
 }
@@ -1,15 +1,19 @@
 package io.swagger.codegen.v3.generators.nodejs;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.codegen.v3.ClientOptInput;
 import io.swagger.codegen.v3.DefaultGenerator;
 import io.swagger.codegen.v3.config.CodegenConfigurator;
 import io.swagger.codegen.v3.generators.AbstractCodegenTest;
+import io.swagger.v3.core.util.Json;
 import org.apache.commons.io.FileUtils;
 import org.junit.rules.TemporaryFolder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
 
 public class NodeJSServerCodegenTest  extends AbstractCodegenTest {
 
@@ -36,4 +40,44 @@ public class NodeJSServerCodegenTest  extends AbstractCodegenTest {
         this.folder.delete();
     }
 
+    @Test(description = "verify that the compiled router converts typed path and query parameters")
+    public void testCompiledRouterParameterTypes() throws Exception {
+        this.folder.create();
+        final File output = this.folder.getRoot();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setLang("nodejs-server")
+            .setInputSpecURL("src/test/resources/3_0_0/petstore.yaml")
+            .setOutputDir(output.getAbsolutePath())
+            .addAdditionalProperty(NodeJSServerCodegen.COMPILED_ROUTER, true);
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        new DefaultGenerator().opts(clientOptInput).generate();
+
+        final String content = FileUtils.readFileToString(new File(output, "utils/router.js"));
+        final int start = content.indexOf("var routes = ") + "var routes = ".length();
+        final JsonNode routes = Json.mapper().readTree(content.substring(start, content.indexOf(";", start)));
+        final Map<String, JsonNode> args = new HashMap<>();
+        for (JsonNode route : routes) {
+            args.put(route.get("operation").asText(), route.get("args"));
+        }
+
+        final JsonNode petId = args.get("getPetById").get(0);
+        Assert.assertEquals(petId.get("in").asText(), "path");
+        Assert.assertEquals(petId.get("type").asText(), "integer");
+        Assert.assertTrue(petId.get("required").asBoolean());
+
+        final JsonNode status = args.get("findPetsByStatus").get(0);
+        Assert.assertEquals(status.get("in").asText(), "query");
+        Assert.assertEquals(status.get("type").asText(), "string");
+        Assert.assertEquals(status.get("array").asText(), "multi");
+
+        final JsonNode apiKey = args.get("deletePet").get(1);
+        Assert.assertEquals(apiKey.get("in").asText(), "header");
+        Assert.assertNull(apiKey.get("required"));
+
+        Assert.assertTrue(content.contains("function coerce(arg, raw)"));
+
+        this.folder.delete();
+    }
 }
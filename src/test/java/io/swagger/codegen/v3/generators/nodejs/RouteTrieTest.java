@@ -0,0 +1,38 @@
+package io.swagger.codegen.v3.generators.nodejs;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RouteTrieTest {
+
+    @Test(description = "verify that static runs are collapsed and path parameters are collected in order")
+    @SuppressWarnings("unchecked")
+    public void testRouteTrie() {
+        final RouteTrie routeTrie = new RouteTrie();
+        routeTrie.add("get", "/store/inventory", new HashMap<>());
+        final List<String> pathParams = routeTrie.add("get", "/pet/{petId}/owner/{ownerId}.json", new HashMap<>());
+        routeTrie.add("post", "/pet/{petId}/owner/{ownerId}.json", new HashMap<>());
+
+        Assert.assertEquals(pathParams, Arrays.asList("petId", "ownerId"));
+        Assert.assertEquals(routeTrie.getRoutes().size(), 3);
+
+        final Map<String, Object> root = routeTrie.toMap();
+        final Map<String, Object> statics = (Map<String, Object>) root.get("s");
+        final Map<String, Object> store = (Map<String, Object>) statics.get("store");
+        Assert.assertEquals(store.get("l"), Arrays.asList("store", "inventory"));
+        Assert.assertEquals(((Map<String, Object>) store.get("n")).get("h"), Collections.singletonMap("get", 0));
+
+        final Map<String, Object> pet = (Map<String, Object>) statics.get("pet");
+        Assert.assertEquals(pet.get("l"), Arrays.asList("pet"));
+        final List<Map<String, Object>> params = (List<Map<String, Object>>) ((Map<String, Object>) pet.get("n")).get("p");
+        Assert.assertEquals(params.size(), 1);
+        Assert.assertEquals(params.get(0).get("pre"), "");
+        Assert.assertEquals(params.get(0).get("suf"), "");
+    }
+}
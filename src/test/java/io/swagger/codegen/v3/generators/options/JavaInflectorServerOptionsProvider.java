@@ -1,11 +1,26 @@
 package io.swagger.codegen.v3.generators.options;
 
+import com.google.common.collect.ImmutableMap;
+import io.swagger.codegen.v3.generators.java.AbstractJavaCodegen;
+
+import java.util.HashMap;
+import java.util.Map;
+
 public class JavaInflectorServerOptionsProvider extends JavaOptionsProvider {
     @Override
     public String getLanguage() {
         return "inflector";
     }
 
+    @Override
+    public Map<String, String> createOptions() {
+        final Map<String, String> options = new HashMap<>(super.createOptions());
+        // option of the java client only
+        options.remove(AbstractJavaCodegen.STREAM_LIST_RESPONSES);
+        options.put(AbstractJavaCodegen.VIRTUAL_THREADS, "false");
+        return ImmutableMap.copyOf(options);
+    }
+
     @Override
     public boolean isServer() {
         return true;
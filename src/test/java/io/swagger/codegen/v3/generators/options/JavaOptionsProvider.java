@@ -2,6 +2,7 @@ package io.swagger.codegen.v3.generators.options;
 
 import com.google.common.collect.ImmutableMap;
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
 
 import java.util.Map;
@@ -36,6 +37,8 @@ public class JavaOptionsProvider implements OptionsProvider {
     //public static final String SUPPORT_JAVA6 = "true";
     public static final String USE_BEANVALIDATION = "false";
     public static final String ALLOW_UNICODE_IDENTIFIERS_VALUE = "false";
+    public static final String NATIVE_IMAGE_VALUE = "false";
+    public static final String STREAM_LIST_RESPONSES_VALUE = "false";
 
 
     private ImmutableMap<String, String> options;
@@ -75,10 +78,13 @@ public class JavaOptionsProvider implements OptionsProvider {
                 .put(JavaClientCodegen.DATE_LIBRARY, "joda")
                 .put("hideGenerationTimestamp", "true")
                 .put(CodegenConstants.ALLOW_UNICODE_IDENTIFIERS, ALLOW_UNICODE_IDENTIFIERS_VALUE)
+                .put(DefaultCodegenConfig.PROFILE_GENERATION, Boolean.FALSE.toString())
                 .put(CodegenConstants.USE_OAS2, "true")
                 .put(JavaClientCodegen.CHECK_DUPLICATED_MODEL_NAME, "false")
                 .put(JavaClientCodegen.WIREMOCK_OPTION, "false")
                 .put(JavaClientCodegen.JAKARTA, "false")
+                .put(JavaClientCodegen.NATIVE_IMAGE, NATIVE_IMAGE_VALUE)
+                .put(JavaClientCodegen.STREAM_LIST_RESPONSES, STREAM_LIST_RESPONSES_VALUE)
                 //.put("supportJava6", "true")
                 .build();
     }
@@ -13,6 +13,8 @@ public class KotlinClientCodegenOptionsProvider implements OptionsProvider {
     public static final String GROUP_ID = "io.swagger.tests";
     public static final String SOURCE_FOLDER = "./generated/kotlin";
     public static final String DATE_LIBRARY = KotlinClientCodegen.DateLibrary.JAVA8.value;
+    public static final String MOSHI_CODEGEN = "true";
+    public static final String COROUTINES = "true";
 
     @Override
     public String getLanguage() {
@@ -29,6 +31,8 @@ public class KotlinClientCodegenOptionsProvider implements OptionsProvider {
                 .put(CodegenConstants.GROUP_ID, GROUP_ID)
                 .put(CodegenConstants.SOURCE_FOLDER, SOURCE_FOLDER)
                 .put(KotlinClientCodegen.DATE_LIBRARY, DATE_LIBRARY)
+                .put(KotlinClientCodegen.MOSHI_CODEGEN, MOSHI_CODEGEN)
+                .put(KotlinClientCodegen.COROUTINES, COROUTINES)
                 .build();
     }
 
@@ -1,7 +1,8 @@
 package io.swagger.codegen.v3.generators.options;
 
 import io.swagger.codegen.CodegenConstants;
-import io.swagger.codegen.languages.RubyClientCodegen;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.ruby.RubyClientCodegen;
 
 import com.google.common.collect.ImmutableMap;
 
@@ -21,6 +22,7 @@ public class RubyClientOptionsProvider implements OptionsProvider {
     public static final String GEM_AUTHOR_VALUE =  "foo";
     public static final String GEM_AUTHOR_EMAIL_VALUE = "foo";
     public static final String ALLOW_UNICODE_IDENTIFIERS_VALUE = "false";
+    public static final String USE_OJ_VALUE = "false";
 
 
     @Override
@@ -41,10 +43,12 @@ public class RubyClientOptionsProvider implements OptionsProvider {
                 .put(RubyClientCodegen.GEM_SUMMARY, GEM_SUMMARY_VALUE)
                 .put(RubyClientCodegen.GEM_AUTHOR, GEM_AUTHOR_VALUE)
                 .put(RubyClientCodegen.GEM_AUTHOR_EMAIL, GEM_AUTHOR_EMAIL_VALUE)
+                .put(RubyClientCodegen.USE_OJ, USE_OJ_VALUE)
                 .put(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG, SORT_PARAMS_VALUE)
                 .put(CodegenConstants.ENSURE_UNIQUE_PARAMS, ENSURE_UNIQUE_PARAMS_VALUE)
                 .put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, "true")
                 .put(CodegenConstants.ALLOW_UNICODE_IDENTIFIERS, ALLOW_UNICODE_IDENTIFIERS_VALUE)
+                .put(DefaultCodegenConfig.PROFILE_GENERATION, Boolean.FALSE.toString())
                 .build();
     }
 
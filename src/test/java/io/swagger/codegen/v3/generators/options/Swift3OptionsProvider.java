@@ -2,6 +2,7 @@ package io.swagger.codegen.v3.generators.options;
 
 import com.google.common.collect.ImmutableMap;
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.codegen.v3.generators.swift.Swift3Codegen;
 
 import java.util.Map;
@@ -58,6 +59,7 @@ public class Swift3OptionsProvider implements OptionsProvider {
                 .put(Swift3Codegen.SWIFT_USE_API_NAMESPACE, SWIFT_USE_API_NAMESPACE_VALUE)
                 .put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, "true")
                 .put(CodegenConstants.ALLOW_UNICODE_IDENTIFIERS, ALLOW_UNICODE_IDENTIFIERS_VALUE)
+                .put(DefaultCodegenConfig.PROFILE_GENERATION, Boolean.FALSE.toString())
                 .build();
     }
 
@@ -2,6 +2,7 @@ package io.swagger.codegen.v3.generators.options;
 
 import com.google.common.collect.ImmutableMap;
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.codegen.v3.generators.typescript.TypeScriptAngularClientCodegen;
 
 import java.util.Map;
@@ -39,6 +40,7 @@ public class TypeScriptAngularClientOptionsProvider implements OptionsProvider {
                 .put(TypeScriptAngularClientCodegen.NG_VERSION, NG_VERSION)
                 .put(TypeScriptAngularClientCodegen.PROVIDED_IN_ROOT, PROVIDED_IN_ROOT)
                 .put(CodegenConstants.ALLOW_UNICODE_IDENTIFIERS, ALLOW_UNICODE_IDENTIFIERS_VALUE)
+                .put(DefaultCodegenConfig.PROFILE_GENERATION, Boolean.FALSE.toString())
                 .build();
     }
 
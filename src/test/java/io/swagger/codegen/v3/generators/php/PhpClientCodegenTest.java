@@ -1,10 +1,28 @@
 package io.swagger.codegen.v3.generators.php;
 
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.DateSchema;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class PhpClientCodegenTest {
     @Test
@@ -78,4 +96,94 @@ public class PhpClientCodegenTest {
         Assert.assertEquals(codegen.customTemplateDir(), "/absolute/path");
         Assert.assertEquals(codegen.embeddedTemplateDir(), "handlebars" + File.separator + "php");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPersistentConnections() throws Exception {
+        final PhpClientCodegen codegen = new PhpClientCodegen();
+        codegen.additionalProperties().put(PhpClientCodegen.PERSISTENT_CONNECTIONS, "true");
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(PhpClientCodegen.PERSISTENT_CONNECTIONS), Boolean.TRUE);
+        Assert.assertTrue(codegen.supportingFiles().stream()
+                .anyMatch(file -> "ClientFactory.php".equals(file.destinationFilename)));
+    }
+
+    @Test(description = "verify the conversions of the static fromArray and toArray serializers")
+    public void testArraySerializers() {
+        final Map<String, Schema> schemas = new LinkedHashMap<>();
+        schemas.put("Tag", new ObjectSchema()
+                .addProperties("name", new StringSchema()));
+        schemas.put("Status", new StringSchema()
+                ._enum(Arrays.asList("available", "sold")));
+        schemas.put("Pet", new ObjectSchema()
+                .addProperties("id", new IntegerSchema().format("int64"))
+                .addProperties("price", new NumberSchema())
+                .addProperties("name", new StringSchema())
+                .addProperties("sold", new BooleanSchema())
+                .addProperties("birthday", new DateSchema())
+                .addProperties("updated", new DateTimeSchema())
+                .addProperties("category", new Schema().$ref("#/components/schemas/Tag"))
+                .addProperties("status", new Schema().$ref("#/components/schemas/Status"))
+                .addProperties("tags", new ArraySchema().items(new Schema().$ref("#/components/schemas/Tag")))
+                .addProperties("scores", new ArraySchema().items(new IntegerSchema()))
+                .addProperties("visits", new ArraySchema().items(new DateTimeSchema()))
+                .addProperties("labels", new MapSchema().additionalProperties(new StringSchema()))
+                .addProperties("friends", new MapSchema().additionalProperties(new Schema().$ref("#/components/schemas/Tag")))
+                .addProperties("groups", new ArraySchema().items(new ArraySchema().items(new Schema().$ref("#/components/schemas/Tag")))));
+
+        final PhpClientCodegen codegen = new PhpClientCodegen();
+        codegen.processOpts();
+        final Map<String, Object> objs = new HashMap<>();
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            final CodegenModel model = codegen.fromModel(entry.getKey(), entry.getValue(), schemas);
+            final Map<String, Object> modelObjs = new HashMap<>();
+            modelObjs.put("models", Collections.singletonList(Collections.singletonMap("model", model)));
+            objs.put(entry.getKey(), modelObjs);
+        }
+        codegen.postProcessAllModels(objs);
+        final CodegenModel pet = getModel(objs, "Pet");
+
+        // primitives
+        assertSerializers(pet, "id", "(int) $value", "$value");
+        assertSerializers(pet, "price", "(float) $value", "$value");
+        assertSerializers(pet, "name", "(string) $value", "$value");
+        assertSerializers(pet, "sold", "(bool) $value", "$value");
+        // dates
+        assertSerializers(pet, "birthday", "empty($value) ? null : new \\DateTime($value)", "$value->format('Y-m-d')");
+        assertSerializers(pet, "updated", "empty($value) ? null : new \\DateTime($value)", "$value->format(\\DateTime::ATOM)");
+        // nested models and enums
+        assertSerializers(pet, "category", "\\Swagger\\Client\\Model\\Tag::fromArray($value)", "(object) $value->toArray()");
+        assertSerializers(pet, "status", "\\Swagger\\Client\\Model\\Status::fromArray($value)",
+                "\\Swagger\\Client\\Model\\Status::fromArray($value)");
+        // arrays
+        assertSerializers(pet, "tags", "array_map('Swagger\\Client\\Model\\Tag::fromArray', (array) $value)",
+                "array_map(static function ($v0) { return null === $v0 ? null : (object) $v0->toArray(); }, $value)");
+        assertSerializers(pet, "scores", "array_map('intval', (array) $value)", "$value");
+        assertSerializers(pet, "visits",
+                "array_map(static function ($v0) { return empty($v0) ? null : new \\DateTime($v0); }, (array) $value)",
+                "array_map(static function ($v0) { return null === $v0 ? null : $v0->format(\\DateTime::ATOM); }, $value)");
+        assertSerializers(pet, "groups",
+                "array_map(static function ($v0) { return array_map('Swagger\\Client\\Model\\Tag::fromArray', (array) $v0); }, (array) $value)",
+                "array_map(static function ($v0) { return array_map(static function ($v1) { return null === $v1 ? null : (object) $v1->toArray(); }, $v0); }, $value)");
+        // maps are encoded as objects
+        assertSerializers(pet, "labels", "array_map('strval', (array) $value)", "(object) $value");
+        assertSerializers(pet, "friends", "array_map('Swagger\\Client\\Model\\Tag::fromArray', (array) $value)",
+                "(object) array_map(static function ($v0) { return null === $v0 ? null : (object) $v0->toArray(); }, $value)");
+    }
+
+    private static void assertSerializers(CodegenModel model, String baseName, String fromArray, String toArray) {
+        final CodegenProperty property = model.vars.stream()
+                .filter(var -> baseName.equals(var.baseName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("missing property " + baseName));
+        Assert.assertEquals(property.vendorExtensions.get("x-from-array"), fromArray, baseName);
+        Assert.assertEquals(property.vendorExtensions.get("x-to-array"), toArray, baseName);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CodegenModel getModel(Map<String, Object> objs, String name) {
+        final Map<String, Object> modelObjs = (Map<String, Object>) objs.get(name);
+        final Map<String, Object> model = (Map<String, Object>) ((List<Object>) modelObjs.get("models")).get(0);
+        return (CodegenModel) model.get("model");
+    }
+}
@@ -1,9 +1,23 @@
 package io.swagger.codegen.v3.generators.python;
 
+import io.swagger.codegen.v3.ClientOptInput;
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import io.swagger.codegen.v3.DefaultGenerator;
+import io.swagger.codegen.v3.config.CodegenConfigurator;
 import io.swagger.codegen.v3.generators.AbstractCodegenTest;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public class PythonClientCodegenTest extends AbstractCodegenTest {
     @Test
     public void testToModelName() {
@@ -38,4 +52,67 @@ public class PythonClientCodegenTest extends AbstractCodegenTest {
         // Camel Case
         Assert.assertEquals(pythonClientCodegen.toModelName("camel_case"), "CamelCaseXsuffixx");
     }
+
+    @Test
+    public void testCompiledModelsConversions() {
+        PythonClientCodegen pythonClientCodegen = new PythonClientCodegen();
+        pythonClientCodegen.setCompiledModels(true);
+        pythonClientCodegen.setModelPackage("petstore.models");
+
+        CodegenModel model = new CodegenModel();
+        model.vars = new ArrayList<>();
+        model.vars.add(property("name", "str"));
+        model.vars.add(property("born", "date"));
+        model.vars.add(property("tags", "list[Tag]"));
+        model.vars.add(property("visits", "dict(str, list[datetime])"));
+
+        Map<String, Object> modelMap = new HashMap<>();
+        modelMap.put("model", model);
+        List<Object> models = new ArrayList<>(Collections.singletonList(modelMap));
+        Map<String, Object> objs = new HashMap<>();
+        objs.put("models", models);
+        pythonClientCodegen.postProcessModels(objs);
+
+        Assert.assertNull(model.vars.get(0).vendorExtensions.get("x-from-json"));
+        Assert.assertNull(model.vars.get(0).vendorExtensions.get("x-to-json"));
+        Assert.assertEquals(model.vars.get(1).vendorExtensions.get("x-from-json"), "model_codec.parse_date(value)");
+        Assert.assertEquals(model.vars.get(1).vendorExtensions.get("x-to-json"), "model_codec.to_json(value)");
+        Assert.assertNull(model.vars.get(1).vendorExtensions.get("x-to-dict"));
+        Assert.assertEquals(model.vars.get(2).vendorExtensions.get("x-from-json"),
+                "[petstore.models.Tag.from_dict(x0) for x0 in value]");
+        Assert.assertEquals(model.vars.get(2).vendorExtensions.get("x-to-dict"),
+                "[model_codec.to_dict(x0) for x0 in value]");
+        Assert.assertEquals(model.vars.get(3).vendorExtensions.get("x-from-json"),
+                "{k0: [model_codec.parse_datetime(x1) for x1 in x0] for k0, x0 in value.items()}");
+    }
+
+    @Test(description = "verify that compiled models import the model package from the root package")
+    public void testCompiledModelsImport() throws Exception {
+        final TemporaryFolder folder = new TemporaryFolder();
+        folder.create();
+        final File output = folder.getRoot();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setLang("python")
+            .addAdditionalProperty(PythonClientCodegen.COMPILED_MODELS, true)
+            .setInputSpecURL("src/test/resources/3_0_0/petstore.yaml")
+            .setOutputDir(output.getAbsolutePath());
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        new DefaultGenerator().opts(clientOptInput).generate();
+
+        final String content = FileUtils.readFileToString(new File(output, "swagger_client/models/pet.py"));
+        Assert.assertTrue(content.contains("\nimport swagger_client.models\n"));
+        Assert.assertTrue(content.contains("swagger_client.models.Category.from_dict(value)"));
+
+        folder.delete();
+    }
+
+    private static CodegenProperty property(String name, String datatype) {
+        CodegenProperty property = new CodegenProperty();
+        property.name = name;
+        property.baseName = name;
+        property.datatype = datatype;
+        return property;
+    }
 }
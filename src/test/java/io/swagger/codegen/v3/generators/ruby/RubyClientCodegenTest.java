@@ -3,6 +3,16 @@ package io.swagger.codegen.v3.generators.ruby;
 import io.swagger.codegen.v3.*;
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.DateSchema;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import org.apache.commons.io.FileUtils;
 import org.junit.rules.TemporaryFolder;
 import org.testng.Assert;
@@ -12,7 +22,11 @@ import org.testng.annotations.Test;
 
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.testng.Assert.*;
 
@@ -98,4 +112,62 @@ public class RubyClientCodegenTest {
       Assert.assertEquals(codegen.additionalProperties().get(CodegenConstants.MODEL_PACKAGE), "ruby-models");
       Assert.assertEquals(codegen.additionalProperties().get(CodegenConstants.API_PACKAGE), "ruby-api");
   }
+
+  @Test(description = "verify the conversion of each attribute in build_from_hash")
+  public void testFromHashConversions() throws Exception {
+      final Map<String, Schema> schemas = new LinkedHashMap<>();
+      schemas.put("Tag", new ObjectSchema()
+              .addProperties("name", new StringSchema()));
+      final Schema pet = new ObjectSchema()
+              .addProperties("id", new IntegerSchema().format("int64"))
+              .addProperties("price", new NumberSchema())
+              .addProperties("name", new StringSchema())
+              .addProperties("sold", new BooleanSchema())
+              .addProperties("birthday", new DateSchema())
+              .addProperties("updated", new DateTimeSchema())
+              .addProperties("category", new Schema().$ref("#/components/schemas/Tag"))
+              .addProperties("tags", new ArraySchema().items(new Schema().$ref("#/components/schemas/Tag")))
+              .addProperties("photoUrls", new ArraySchema().items(new StringSchema()))
+              .addProperties("visits", new ArraySchema().items(new DateTimeSchema()))
+              .addProperties("groups", new ArraySchema().items(new ArraySchema().items(new Schema().$ref("#/components/schemas/Tag"))))
+              .addProperties("scores", new MapSchema().additionalProperties(new IntegerSchema()))
+              .addProperties("friends", new MapSchema().additionalProperties(new Schema().$ref("#/components/schemas/Tag")))
+              .addProperties("extra", new ObjectSchema());
+      schemas.put("Pet", pet);
+
+      final RubyClientCodegen codegen = new RubyClientCodegen();
+      codegen.processOpts();
+      final CodegenModel model = codegen.fromModel("Pet", pet, schemas);
+      final Map<String, Object> objs = new HashMap<>();
+      objs.put("models", Collections.singletonList(Collections.singletonMap("model", model)));
+      codegen.postProcessModels(objs);
+
+      // primitives
+      assertFromHash(model, "id", "value.to_i");
+      assertFromHash(model, "price", "value.to_f");
+      assertFromHash(model, "name", "value.to_s");
+      assertFromHash(model, "sold", "(value == true || !(value.to_s =~ /\\A(true|t|yes|y|1)\\z/i).nil?)");
+      // dates
+      assertFromHash(model, "birthday", "Date.parse(value)");
+      assertFromHash(model, "updated", "DateTime.parse(value)");
+      // nested models
+      assertFromHash(model, "category", "Tag.build_from_hash(value)");
+      // arrays
+      assertFromHash(model, "tags", "value.map { |v0| Tag.build_from_hash(v0) }");
+      assertFromHash(model, "photoUrls", "value.map(&:to_s)");
+      assertFromHash(model, "visits", "value.map { |v0| DateTime.parse(v0) }");
+      assertFromHash(model, "groups", "value.map { |v0| v0.map { |v1| Tag.build_from_hash(v1) } }");
+      // hashes
+      assertFromHash(model, "scores", "value.each_with_object({}) { |(k0, v0), h| h[k0.to_s] = v0.to_i }");
+      assertFromHash(model, "friends", "value.each_with_object({}) { |(k0, v0), h| h[k0.to_s] = Tag.build_from_hash(v0) }");
+      assertFromHash(model, "extra", "value");
+  }
+
+  private static void assertFromHash(CodegenModel model, String baseName, String fromHash) {
+      final CodegenProperty property = model.vars.stream()
+              .filter(var -> baseName.equals(var.baseName))
+              .findFirst()
+              .orElseThrow(() -> new AssertionError("missing property " + baseName));
+      Assert.assertEquals(property.vendorExtensions.get("x-from-hash"), fromHash, baseName);
+  }
 }
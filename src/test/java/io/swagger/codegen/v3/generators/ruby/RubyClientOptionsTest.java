@@ -44,6 +44,8 @@ public class RubyClientOptionsTest extends AbstractOptionsTest {
             times = 1;
             clientCodegen.setGemAuthorEmail(RubyClientOptionsProvider.GEM_AUTHOR_EMAIL_VALUE);
             times = 1;
+            clientCodegen.setUseOj(Boolean.valueOf(RubyClientOptionsProvider.USE_OJ_VALUE));
+            times = 1;
 
         }};
     }
@@ -0,0 +1,50 @@
+package io.swagger.codegen.v3.generators.typescript.fetch;
+
+import io.swagger.codegen.v3.CodegenOperation;
+import io.swagger.codegen.v3.CodegenParameter;
+import io.swagger.codegen.v3.generators.typescript.AbstractTypeScriptClientCodegen;
+import io.swagger.codegen.v3.generators.typescript.TypeScriptFetchClientCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class TypeScriptFetchPathBuilderTest {
+
+    @Test(description = "verify that static path segments are joined and only path parameters are encoded")
+    public void testPathBuilder() {
+        final TypeScriptFetchClientCodegen codegen = new TypeScriptFetchClientCodegen();
+
+        final CodegenParameter petId = new CodegenParameter();
+        petId.baseName = "pet_id";
+        petId.paramName = "petId";
+        final CodegenParameter tags = new CodegenParameter();
+        tags.baseName = "tag name";
+        tags.paramName = "tagName";
+
+        final CodegenOperation operation = new CodegenOperation();
+        operation.path = "/pet/{pet_id}/it's/{pet_id}.json";
+        operation.pathParams = new ArrayList<>(Collections.singletonList(petId));
+        operation.queryParams = new ArrayList<>(Collections.singletonList(tags));
+
+        final CodegenOperation staticOperation = new CodegenOperation();
+        staticOperation.path = "/store/inventory";
+
+        final Map<String, Object> operations = new HashMap<>();
+        operations.put("operation", new ArrayList<>(Arrays.asList(operation, staticOperation)));
+        final Map<String, Object> objs = new HashMap<>();
+        objs.put("operations", operations);
+        codegen.postProcessOperations(objs);
+
+        Assert.assertEquals(operation.getVendorExtensions().get(AbstractTypeScriptClientCodegen.PATH_BUILDER_EXT_NAME),
+                "'/pet/' + encodeURIComponent(String(petId)) + '/it\\'s/' + encodeURIComponent(String(petId)) + '.json'");
+        Assert.assertEquals(staticOperation.getVendorExtensions().get(AbstractTypeScriptClientCodegen.PATH_BUILDER_EXT_NAME),
+                "'/store/inventory'");
+        Assert.assertEquals(tags.getVendorExtensions().get(AbstractTypeScriptClientCodegen.QUERY_KEY_PREFIX_EXT_NAME),
+                "&tag%20name=");
+    }
+}
@@ -0,0 +1,66 @@
+package io.swagger.codegen.v3.generators.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.java.MicronautCodegen;
+import io.swagger.codegen.v3.generators.java.SpringCodegen;
+import io.swagger.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GenerationProfilerTest {
+
+    @Test(description = "verify that phases and samples are counted and reported by name")
+    public void testReport() {
+        final GenerationProfiler profiler = new GenerationProfiler();
+        profiler.enter("preprocessOpenAPI");
+        profiler.enter("fromModel");
+        profiler.enter("fromModel");
+        final GenerationProfiler.Sample sample = profiler.start("generateExamples");
+        profiler.stop(sample);
+        profiler.enter("postProcessAllModels");
+
+        final List<Map<String, Object>> report = profiler.getReport();
+        Assert.assertEquals(report.size(), 4);
+        Assert.assertEquals(report.get(0).get("phase"), "fromModel");
+        Assert.assertEquals(report.get(0).get("invocations"), 2L);
+        Assert.assertEquals(report.get(1).get("phase"), "generateExamples");
+        Assert.assertEquals(report.get(1).get("invocations"), 1L);
+        Assert.assertEquals(report.get(2).get("phase"), "postProcessAllModels");
+        Assert.assertEquals(report.get(3).get("phase"), "preprocessOpenAPI");
+        for (Map<String, Object> entry : report) {
+            Assert.assertTrue((Double) entry.get("wallTimeMillis") >= 0);
+        }
+    }
+
+    @Test(description = "verify that the report is written once, when generation is done")
+    public void testReportWrittenAtEnd() throws Exception {
+        for (DefaultCodegenConfig config : Arrays.asList(new SpringCodegen(), new MicronautCodegen())) {
+            final File output = Files.createTempDirectory("profile").toFile();
+            config.setOutputDir(output.getAbsolutePath());
+            config.additionalProperties().put(DefaultCodegenConfig.PROFILE_GENERATION, "true");
+            config.processOpts();
+            config.postProcessSupportingFileData(new HashMap<>());
+
+            final File report = new File(output, GenerationProfiler.REPORT_NAME + ".json");
+            Assert.assertFalse(report.exists());
+            config.processOpenAPI(new OpenAPI());
+
+            final List<String> phases = new ArrayList<>();
+            for (JsonNode entry : Json.mapper().readTree(report)) {
+                phases.add(entry.get("phase").asText());
+            }
+            Assert.assertTrue(phases.contains("postProcessSupportingFileData"), config.getName());
+            Assert.assertTrue(new File(output, GenerationProfiler.REPORT_NAME + ".csv").exists());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.swagger.codegen.v3.generators.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ValueNode;
+import io.swagger.codegen.v3.generators.MultiLanguageGenerator;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class OpenAPICopierTest {
+
+    @Test(description = "verify that no mutable part of a parsed specification is shared with its copy")
+    public void testCopyIsDeep() throws Exception {
+        final OpenAPI openAPI = MultiLanguageGenerator.parse("src/test/resources/3_0_0/petstore.yaml");
+        final OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+        Assert.assertEquals(Json.pretty(copy), Json.pretty(openAPI));
+        Assert.assertNotSame(copy.getPaths(), openAPI.getPaths());
+        Assert.assertNotSame(copy.getPaths().get("/pet"), openAPI.getPaths().get("/pet"));
+        final Operation operation = openAPI.getPaths().get("/pet/findByStatus").getGet();
+        final Operation copiedOperation = copy.getPaths().get("/pet/findByStatus").getGet();
+        Assert.assertNotSame(copiedOperation, operation);
+        Assert.assertNotSame(copiedOperation.getParameters(), operation.getParameters());
+        Assert.assertNotSame(copiedOperation.getResponses(), operation.getResponses());
+        Assert.assertNotSame(copy.getComponents().getSchemas(), openAPI.getComponents().getSchemas());
+        Assert.assertNotSame(copy.getComponents().getSchemas().get("Pet").getProperties(),
+                openAPI.getComponents().getSchemas().get("Pet").getProperties());
+
+        assertNotShared(openAPI, copy, new IdentityHashMap<>());
+    }
+
+    @Test(description = "verify that JDK collections and maps without a public constructor are copied")
+    public void testCopyUnmodifiableCollections() {
+        final Schema<String> schema = new StringSchema();
+        schema.setEnum(Collections.unmodifiableList(new ArrayList<>(Collections.singletonList("available"))));
+        schema.setRequired(Collections.singletonList("name"));
+        final Map<String, Object> extensions = new TreeMap<>(Comparator.reverseOrder());
+        extensions.put("x-a", "a");
+        extensions.put("x-b", "b");
+        schema.setExtensions(extensions);
+
+        final Schema<String> copy = OpenAPICopier.copy(schema);
+
+        Assert.assertNotSame(copy.getEnum(), schema.getEnum());
+        Assert.assertEquals(copy.getEnum(), schema.getEnum());
+        Assert.assertNotSame(copy.getRequired(), schema.getRequired());
+        Assert.assertEquals(copy.getRequired(), schema.getRequired());
+        Assert.assertNotSame(copy.getExtensions(), schema.getExtensions());
+        Assert.assertEquals(new ArrayList<>(copy.getExtensions().keySet()), new ArrayList<>(schema.getExtensions().keySet()));
+    }
+
+    @Test(description = "verify that objects which can not be copied fail instead of being shared",
+            expectedExceptions = IllegalArgumentException.class)
+    public void testUncopyableValue() {
+        final Schema<Object> schema = new Schema<>();
+        schema.addExtension("x-value", new Uncopyable("value"));
+
+        OpenAPICopier.copy(schema);
+    }
+
+    /**
+     * Walks the original and the copy side by side, and fails on the first mutable object found in both.
+     */
+    private static void assertNotShared(Object original, Object copy, Map<Object, Boolean> visited) throws IllegalAccessException {
+        if (original == null || isImmutable(original.getClass()) || visited.put(original, Boolean.TRUE) != null) {
+            return;
+        }
+        Assert.assertNotSame(copy, original, "shared " + original.getClass().getName());
+        if (original instanceof JsonNode) {
+            // copied by JsonNode.deepCopy, which shares the node factory
+            return;
+        }
+        if (original.getClass().isArray()) {
+            if (!original.getClass().getComponentType().isPrimitive()) {
+                for (int i = 0; i < Array.getLength(original); i++) {
+                    assertNotShared(Array.get(original, i), Array.get(copy, i), visited);
+                }
+            }
+        } else if (original instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) original).entrySet()) {
+                assertNotShared(entry.getValue(), ((Map<?, ?>) copy).get(entry.getKey()), visited);
+            }
+        } else if (original instanceof Collection) {
+            final Iterator<?> copies = ((Collection<?>) copy).iterator();
+            for (Object element : (Collection<?>) original) {
+                assertNotShared(element, copies.next(), visited);
+            }
+        } else if (!original.getClass().getName().startsWith("java.")) {
+            for (Class<?> type = original.getClass(); type != null && !type.getName().startsWith("java."); type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    assertNotShared(field.get(original), field.get(copy), visited);
+                }
+            }
+        }
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        if (type.isPrimitive() || type.isEnum() || type == Class.class || ValueNode.class.isAssignableFrom(type)) {
+            return true;
+        }
+        return type.getName().startsWith("java.") && !type.isArray() && !Map.class.isAssignableFrom(type)
+                && !Collection.class.isAssignableFrom(type) && !Date.class.isAssignableFrom(type);
+    }
+
+    private static class Uncopyable {
+
+        private final List<String> values = new ArrayList<>();
+
+        Uncopyable(String value) {
+            values.add(value);
+        }
+    }
+}
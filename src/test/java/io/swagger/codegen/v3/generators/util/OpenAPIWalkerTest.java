@@ -0,0 +1,79 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class OpenAPIWalkerTest {
+
+    @Test(description = "verify that every visitor sees schemas, then each operation with its parameters and responses")
+    public void testWalkOrder() {
+        final OpenAPI openAPI = new OpenAPI()
+                .components(new Components().addSchemas("Pet", new ObjectSchema()))
+                .path("/pets", new PathItem()
+                        .get(new Operation().operationId("listPets")
+                                .addParametersItem(new Parameter().name("limit"))
+                                .responses(new ApiResponses().addApiResponse("200", new ApiResponse())))
+                        .post(new Operation().operationId("addPet")));
+        final List<String> visits = new ArrayList<>();
+        OpenAPIWalker.walk(openAPI, Arrays.asList(new RecordingVisitor("a", visits), new RecordingVisitor("b", visits)));
+
+        Assert.assertEquals(visits, Arrays.asList(
+                "a schema Pet", "b schema Pet",
+                "a operation GET /pets listPets", "b operation GET /pets listPets",
+                "a parameter listPets limit", "b parameter listPets limit",
+                "a response listPets 200", "b response listPets 200",
+                "a operation POST /pets addPet", "b operation POST /pets addPet"));
+    }
+
+    @Test(description = "verify that a specification without components or paths is walked")
+    public void testWalkEmpty() {
+        final List<String> visits = new ArrayList<>();
+        OpenAPIWalker.walk(new OpenAPI(), Collections.singletonList(new RecordingVisitor("a", visits)));
+        Assert.assertTrue(visits.isEmpty());
+    }
+
+    private static class RecordingVisitor implements OpenAPIVisitor {
+
+        private final String name;
+        private final List<String> visits;
+
+        RecordingVisitor(String name, List<String> visits) {
+            this.name = name;
+            this.visits = visits;
+        }
+
+        @Override
+        public void visitOperation(String pathname, PathItem.HttpMethod method, Operation operation, PathItem pathItem) {
+            visits.add(name + " operation " + method + " " + pathname + " " + operation.getOperationId());
+        }
+
+        @Override
+        public void visitParameter(Operation operation, Parameter parameter) {
+            visits.add(name + " parameter " + operation.getOperationId() + " " + parameter.getName());
+        }
+
+        @Override
+        public void visitResponse(Operation operation, String responseCode, ApiResponse response) {
+            visits.add(name + " response " + operation.getOperationId() + " " + responseCode);
+        }
+
+        @Override
+        public void visitSchema(String name, Schema schema) {
+            visits.add(this.name + " schema " + name);
+        }
+    }
+}
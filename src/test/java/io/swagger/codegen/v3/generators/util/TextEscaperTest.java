@@ -0,0 +1,26 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TextEscaperTest {
+
+    private static final TextEscaper ESCAPER = new TextEscaper(
+            new String[]{"\n", "\"", "*/", "/*"},
+            new String[]{" ", "\\\"", "*_/", "/_*"});
+
+    @Test(description = "verify that a text without special characters is returned as is")
+    public void testPlainText() {
+        final String input = "Pet status in the store, e.g. available";
+        Assert.assertSame(ESCAPER.escape(input), input);
+        Assert.assertNull(ESCAPER.escape(null));
+    }
+
+    @Test(description = "verify that characters and sequences are replaced like chained replace calls")
+    public void testEscape() {
+        Assert.assertEquals(ESCAPER.escape("a \"quoted\"\ntext"), "a \\\"quoted\\\" text");
+        Assert.assertEquals(ESCAPER.escape("end */ start /*"), "end *_/ start /_*");
+        Assert.assertEquals(ESCAPER.escape("/*/"), "/*/".replace("*/", "*_/").replace("/*", "/_*"));
+        Assert.assertEquals(ESCAPER.escape("a/b*c"), "a/b*c");
+    }
+}